@@ -0,0 +1,42 @@
+package aurora;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import aurora.io.ConsoleUi;
+import aurora.io.Output;
+
+/**
+ * Represents the console front end of Aurora, which reads commands from standard input and prints replies
+ * to standard output. JavaFX is never loaded, so it starts in milliseconds and runs without a display,
+ * such as for scripts and text-ui-test.
+ */
+public class AuroraConsole {
+
+    /**
+     * Runs Aurora in the console until "bye" or the end of standard input.
+     *
+     * @param args unused.
+     */
+    public static void main(String[] args) {
+        AuroraCore aurora = AuroraCore.of();
+
+        // "bye" has flushed every change by the time it closes the console, so Aurora can exit at once
+        Output.setSingleton(new ConsoleUi(System.out, () -> System.exit(0)));
+        aurora.start();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            String input = reader.readLine();
+            while (input != null) {
+                aurora.executeInput(input);
+                input = reader.readLine();
+            }
+        } catch (IOException e) {
+            // Nothing more can be read, so finish what was read
+        }
+
+        aurora.stop();
+    }
+}
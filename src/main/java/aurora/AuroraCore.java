@@ -0,0 +1,200 @@
+package aurora;
+
+import java.util.List;
+
+import aurora.command.CommandExecutor;
+import aurora.exception.AuroraException;
+import aurora.io.Durability;
+import aurora.io.Output;
+import aurora.io.Reminders;
+import aurora.io.Storage;
+import aurora.task.ColumnarTaskList;
+import aurora.task.History;
+import aurora.task.Task;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+/**
+ * Represents the parts of Aurora shared by its front ends: the task list, its storage and the worker that
+ * executes commands on them. None of it depends on JavaFX, so the console front end runs without it.
+ */
+public class AuroraCore {
+
+    // Greeting string
+    private static final String GREETING = "Hello! I'm Aurora.\nWhat can I do for you?";
+
+    // System properties to configure how soon writes reach the disk
+    private static final String DURABILITY_PROPERTY = "aurora.durability";
+    private static final String COMMIT_INTERVAL_PROPERTY = "aurora.commitIntervalMillis";
+    private static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 100;
+    private static final Durability DEFAULT_DURABILITY = Durability.INTERVAL;
+
+    // System property to rewrite the task list file on every change instead of appending to the journal
+    private static final String JOURNAL_PROPERTY = "aurora.journal";
+
+    // System property to store the task list column by column, for very large lists
+    private static final String TASK_LIST_PROPERTY = "aurora.taskList";
+    private static final String COLUMNAR_TASK_LIST = "columnar";
+
+    // System property to set how many changes can be undone
+    private static final String HISTORY_DEPTH_PROPERTY = "aurora.historyDepth";
+
+    // System property to set how many minutes before its date a task is reminded of
+    private static final String REMINDER_LEAD_PROPERTY = "aurora.reminderLeadMinutes";
+
+    private static final AuroraCore SINGLETON = new AuroraCore();
+
+    // The key components of the application
+    private final TaskList taskList = createTaskList();
+    private final Storage storage = Storage.of();
+    private final CommandExecutor commandExecutor = new CommandExecutor(taskList, storage);
+
+    /**
+     * Constructs the AuroraCore singleton.
+     */
+    private AuroraCore() {
+    }
+
+    /**
+     * Returns the singleton instance of AuroraCore.
+     *
+     * @return the singleton instance of AuroraCore.
+     */
+    public static AuroraCore of() {
+        return SINGLETON;
+    }
+
+    /**
+     * Greets the user, loads the task list in the background and then starts the reminders.
+     * Commands entered while the task list loads are queued behind it and executed in order.
+     */
+    public void start() {
+        Output output = Output.getSingleton();
+        output.printMsg(GREETING);
+
+        output.setLoading(true);
+        commandExecutor.submitJob(this::openStorage);
+        commandExecutor.submitJob(() -> output.setLoading(false));
+        commandExecutor.submitJob(this::startReminders);
+    }
+
+    /**
+     * Queues the user input to be executed on the command worker, after any input before it.
+     *
+     * @param input The user input.
+     */
+    public void executeInput(String input) {
+        commandExecutor.submit(input);
+    }
+
+    /**
+     * Finishes every queued command and flushes every queued write to disk.
+     */
+    public void stop() {
+        commandExecutor.shutdown();
+        try {
+            storage.flush();
+        } catch (AuroraException e) {
+            // Nothing more can be done as Aurora is already closing
+        }
+    }
+
+    /**
+     * Configures the storage and loads the task list from it, creating the file if it does not exist.
+     *
+     * @throws AuroraException if there is an error creating or loading the task list file.
+     */
+    private void openStorage() throws AuroraException {
+        configureStorage();
+        storage.generateTaskListFile();
+        loadTaskList();
+    }
+
+    /**
+     * Schedules a reminder for every task loaded, using the lead time if set in the system properties.
+     * e.g. -Daurora.reminderLeadMinutes=30
+     */
+    private void startReminders() {
+        long leadMinutes = Long.getLong(REMINDER_LEAD_PROPERTY, Reminders.DEFAULT_LEAD_MINUTES);
+        Reminders.of().start(taskList.getTasks(), Math.max(0, leadMinutes));
+    }
+
+    /**
+     * Streams the task list from the file and replays any journaled changes on top of it.
+     * A task list file in the legacy text format, or of an older binary version, is upgraded to the current
+     * binary format once loaded.
+     *
+     * @throws AuroraException if there is an error loading the task list.
+     */
+    public void loadTaskList() throws AuroraException {
+        Parser parser = Parser.of();
+        boolean isLegacy = storage.hasLegacyTaskListFile();
+
+        // Tasks are added as each record is decoded so the file is never held in memory as a whole
+        if (isLegacy) {
+            storage.streamLegacyTaskListData(line -> {
+                Task task = parser.parseTaskRecord(line);
+                if (task != null) {
+                    taskList.addToList(task);
+                }
+            });
+        } else {
+            // IDs of tasks deleted before the file was written are never given out again
+            taskList.reserveIds(storage.streamTaskListData(taskList::addToList));
+        }
+
+        List<String> journalRecords = storage.loadJournalData();
+        parser.replayJournal(journalRecords, taskList);
+
+        if (isLegacy) {
+            storage.migrateLegacyTaskListFile(taskList.getTasks(), taskList.getNextId());
+        } else if (storage.isTaskListFileOutdated()) {
+            storage.overwriteTaskListFile(taskList.getTasks(), taskList.getNextId());
+        }
+    }
+
+    /**
+     * Creates the task list, using the columnar layout and history depth if set in the system properties.
+     * e.g. -Daurora.taskList=columnar -Daurora.historyDepth=20
+     *
+     * @return the task list.
+     */
+    private static TaskList createTaskList() {
+        TaskList taskList;
+        if (COLUMNAR_TASK_LIST.equalsIgnoreCase(System.getProperty(TASK_LIST_PROPERTY, "").trim())) {
+            taskList = new ColumnarTaskList();
+        } else {
+            taskList = new TaskList();
+        }
+
+        int historyDepth = Integer.getInteger(HISTORY_DEPTH_PROPERTY, History.DEFAULT_DEPTH);
+        taskList.getHistory().setDepth(Math.max(0, historyDepth));
+
+        return taskList;
+    }
+
+    /**
+     * Configures the storage durability level, commit interval and journaling from the system properties,
+     * each of which may be set on its own.
+     * e.g. -Daurora.durability=EVERY_OP, -Daurora.commitIntervalMillis=50 or -Daurora.journal=false
+     */
+    private void configureStorage() {
+        Durability durability = DEFAULT_DURABILITY;
+        String durabilityName = System.getProperty(DURABILITY_PROPERTY);
+        if (durabilityName != null) {
+            try {
+                durability = Durability.valueOf(durabilityName.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Unknown durability level, keep the default
+            }
+        }
+
+        long commitIntervalMillis = Long.getLong(COMMIT_INTERVAL_PROPERTY, DEFAULT_COMMIT_INTERVAL_MILLIS);
+        storage.setDurability(durability, Math.max(0, commitIntervalMillis));
+
+        String journalValue = System.getProperty(JOURNAL_PROPERTY);
+        if (journalValue != null) {
+            storage.setJournaled(!journalValue.trim().equalsIgnoreCase("false"));
+        }
+    }
+}
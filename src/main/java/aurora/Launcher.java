@@ -4,9 +4,20 @@ import javafx.application.Application;
 
 /**
  * Represents a launcher class to help workaround classpath issues.
+ * Aurora runs in the console instead of a window when launched with "--headless".
  */
 public class Launcher {
+
+    private static final String HEADLESS_FLAG = "--headless";
+
     public static void main(String[] args) {
+        for (String arg : args) {
+            if (HEADLESS_FLAG.equals(arg)) {
+                AuroraConsole.main(args);
+                return;
+            }
+        }
+
         Application.launch(Aurora.class, args);
     }
 }
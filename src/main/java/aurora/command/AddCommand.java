@@ -1,8 +1,11 @@
 package aurora.command;
 
+import java.util.List;
+
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
+import aurora.task.History;
 import aurora.task.Task;
 import aurora.task.TaskList;
 
@@ -28,11 +31,12 @@ public abstract class AddCommand extends Command {
         assert(storage != null) : "Storage is null.";
 
         taskList.addToList(task);
+        taskList.getHistory().record(History.Operation.ADD, List.of(task));
 
         String message = String.format(TASK_ADDED_MSG, task, taskList.getSize());
-        Ui.getSingleton().printMsg(message);
+        Output.getSingleton().printMsg(message);
 
-        appendTaskListFile(task, storage);
+        persistAddition(task, taskList, storage);
     }
 
 }
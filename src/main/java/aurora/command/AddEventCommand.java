@@ -1,10 +1,13 @@
 package aurora.command;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
 import aurora.task.Event;
+import aurora.task.EventConflicts;
 import aurora.task.TaskList;
 import aurora.util.Parser;
 
@@ -18,6 +21,7 @@ public class AddEventCommand extends AddCommand {
     private static final String FROM_ARG_IDENTIFIER = "/from";
     private static final String TO_ARG_IDENTIFIER = "/to";
     private static final String USAGE = "Usage: \"event Description /from From /to To\"";
+    private static final String OVERLAPPING_EVENTS_MSG = "Heads up, it overlaps these events:";
 
     // Exception messages
     private static final String MISSING_DESCRIPTION_ARG =
@@ -43,7 +47,7 @@ public class AddEventCommand extends AddCommand {
     private String description;
 
     /**
-     * Executes the command to add an Event to the TaskList.
+     * Executes the command to add an Event to the TaskList, pointing out any events not yet done it overlaps.
      *
      * @param taskList the taskList to add to.
      * @param storage the storage to write to.
@@ -58,7 +62,16 @@ public class AddEventCommand extends AddCommand {
         super.execute(taskList, storage);
 
         Event event = new Event(description, fromDate, toDate);
+        List<Event> overlappingEvents = EventConflicts.findOverlapping(taskList, event);
         addToList(event, taskList, storage);
+
+        if (!overlappingEvents.isEmpty()) {
+            StringBuilder message = new StringBuilder(OVERLAPPING_EVENTS_MSG);
+            for (Event overlappingEvent : overlappingEvents) {
+                message.append("\n#").append(overlappingEvent.getId()).append(" ").append(overlappingEvent);
+            }
+            Output.getSingleton().printMsg(message.toString());
+        }
     }
 
     /**
@@ -0,0 +1,182 @@
+package aurora.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.DateIndex;
+import aurora.task.Task;
+import aurora.task.TaskList;
+import aurora.util.DateTimeUtil;
+import aurora.util.Parser;
+
+/**
+ * Represents a command to show the tasks not yet done that fall on a day, or on each day of a week.
+ * The whole agenda is looked up in the task list with a single search and the tasks found are then split
+ * into days, so a list without a date index is scanned once rather than once per day.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String CMD_KEYWORD = "agenda";
+
+    private static final String TODAY_ARG = "today";
+    private static final String WEEK_ARG = "week";
+    private static final int DAYS_PER_WEEK = 7;
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d yyyy");
+    private static final String USAGE = "Usage: \"agenda\", \"agenda today\", \"agenda week\" or \"agenda Date\"";
+    private static final String DAY_HEADING = "%s:";
+    private static final String NOTHING_DUE_MSG = "Nothing is due on %s.";
+    private static final String NOTHING_DUE_IN_WEEK_MSG = "Nothing is due from %s to %s.";
+
+    // Exception messages
+    private static final String INVALID_DATE_ARG =
+            "Invalid format: \"Date\" must be \"today\", \"week\" or a valid date format of dd/mm/yyyy.";
+
+    // The first day of the agenda, or null to start from the day the command is executed
+    private LocalDate startDate = null;
+
+    // The number of days in the agenda
+    private int dayCount = 1;
+
+    /**
+     * Executes the command to show the tasks not yet done on each day of the agenda.
+     *
+     * @param taskList the taskList to search.
+     * @param storage the storage for referencing.
+     * @throws AuroraException if an error occurs in a lower-level method.
+     */
+    @Override
+    public void execute(TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        super.execute(taskList, storage);
+
+        LocalDate firstDay = startDate != null ? startDate : LocalDate.now();
+        LocalDate lastDay = firstDay.plusDays(dayCount - 1);
+        TaskList tasksInAgenda = taskList.findWithinPeriod(firstDay.atStartOfDay(), getEndOfDay(lastDay));
+        List<List<Task>> tasksByDay = splitIntoDays(tasksInAgenda, firstDay);
+
+        StringBuilder agenda = new StringBuilder();
+        for (int i = 0; i < dayCount; i++) {
+            appendDay(agenda, firstDay.plusDays(i), tasksByDay.get(i));
+        }
+
+        Output output = Output.getSingleton();
+        if (agenda.length() > 0) {
+            output.printMsg(agenda.substring(0, agenda.length() - 1));
+        } else if (dayCount == 1) {
+            output.printMsg(String.format(NOTHING_DUE_MSG, DAY_FORMAT.format(firstDay)));
+        } else {
+            output.printMsg(String.format(NOTHING_DUE_IN_WEEK_MSG, DAY_FORMAT.format(firstDay),
+                    DAY_FORMAT.format(lastDay)));
+        }
+    }
+
+    /**
+     * Splits the tasks found in the agenda into the days of the agenda their date ranges overlap, leaving out
+     * the tasks that are done. A task spanning several days is put under each of them.
+     *
+     * @param tasksInAgenda the tasks with a date range overlapping the agenda, in order of their start.
+     * @param firstDay the first day of the agenda.
+     * @return the tasks not yet done on each day of the agenda, each in order of their start.
+     */
+    private List<List<Task>> splitIntoDays(TaskList tasksInAgenda, LocalDate firstDay) {
+        List<List<Task>> tasksByDay = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            tasksByDay.add(new ArrayList<>());
+        }
+
+        for (Task task : tasksInAgenda.getTasks()) {
+            long[] range = DateIndex.getRange(task);
+            if (task.isDone() || range == null) {
+                continue;
+            }
+
+            LocalDate startDay = DateTimeUtil.fromEpochMinute(range[0]).toLocalDate();
+            LocalDate endDay = DateTimeUtil.fromEpochMinute(range[1]).toLocalDate();
+            long fromDay = Math.max(0, ChronoUnit.DAYS.between(firstDay, startDay));
+            long toDay = Math.min(dayCount - 1, ChronoUnit.DAYS.between(firstDay, endDay));
+            for (long i = fromDay; i <= toDay; i++) {
+                tasksByDay.get((int) i).add(task);
+            }
+        }
+
+        return tasksByDay;
+    }
+
+    /**
+     * Appends a day and the tasks on it to the agenda, unless there are none.
+     *
+     * @param agenda the agenda to append to.
+     * @param day the day.
+     * @param tasksOnDay the tasks not yet done on the day.
+     */
+    private void appendDay(StringBuilder agenda, LocalDate day, List<Task> tasksOnDay) {
+        if (tasksOnDay.isEmpty()) {
+            return;
+        }
+
+        agenda.append(String.format(DAY_HEADING, DAY_FORMAT.format(day))).append("\n");
+        for (Task task : tasksOnDay) {
+            agenda.append("#").append(task.getId()).append(" ").append(task).append("\n");
+        }
+    }
+
+    /**
+     * Gets the last minute of a day, as periods are matched minute by minute and include both ends.
+     *
+     * @param day the day.
+     * @return the last minute of the day.
+     */
+    private static LocalDateTime getEndOfDay(LocalDate day) {
+        return day.plusDays(1).atStartOfDay().minusMinutes(1);
+    }
+
+    /**
+     * Parses the arguments for the command.
+     *
+     * @param argsList the arguments to parse.
+     * @throws AuroraException the appropriate exception message if unable to parse arguments.
+     */
+    @Override
+    public void parseArgs(String[] argsList) throws AuroraException {
+        /*
+         * The code may seem to be duplicated as a number of commands may share similar parsing.
+         * However, the code is designed with the fact that the parsing of arguments is meant to be
+         * coupled with the command it is parsing for, for ease of extending the code.
+         */
+
+        assert(argsList != null) : "The argsList is null.";
+
+        String argument = argsList.length < 2 ? "" : argsList[1].trim();
+
+        // No argument provided, or today
+        if (argument.isEmpty() || argument.equals(TODAY_ARG)) {
+            dayCount = 1;
+
+        // The week starting today
+        } else if (argument.equals(WEEK_ARG)) {
+            dayCount = DAYS_PER_WEEK;
+
+        } else {
+            LocalDate parsedDate = Parser.of().parseDate(argument);
+            if (parsedDate == null) {
+                throw new AuroraException(INVALID_DATE_ARG + "\n" + USAGE);
+            }
+            startDate = parsedDate;
+            dayCount = 1;
+        }
+
+        super.parseArgs(argsList);
+    }
+
+}
@@ -0,0 +1,133 @@
+package aurora.command;
+
+import java.time.LocalDateTime;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+/**
+ * Represents a command to find tasks with dates that fall within a period.
+ */
+public class BetweenCommand extends Command {
+
+    public static final String CMD_KEYWORD = "between";
+
+    private static final String TO_ARG_IDENTIFIER = "/to";
+    private static final String USAGE = "Usage: \"between From /to To\"";
+    private static final String EMPTY_LIST = "No tasks fall within this period.";
+
+    // Exception messages
+    private static final String MISSING_FROM_ARG =
+            "Missing argument: \"From\".";
+    private static final String MISSING_TO_ARG_IDENTIFIER =
+            "Missing argument: \"/to To\".";
+    private static final String MISSING_TO_ARG =
+            "Missing argument: \"To\" in \"/to To\".";
+    private static final String INVALID_FROM_DATE_ARG =
+            "Invalid format: \"From\" must be a valid date format of dd/mm/yyyy hhmm.";
+    private static final String INVALID_TO_DATE_ARG =
+            "Invalid format: \"To\" must be a valid date format of dd/mm/yyyy hhmm.";
+    private static final String INVALID_PERIOD =
+            "Invalid period: \"From\" must not be after \"To\".";
+
+    // BetweenCommand specific fields
+    private LocalDateTime fromDate;
+    private LocalDateTime toDate;
+
+    /**
+     * Executes the command to find tasks with dates that fall within the period.
+     *
+     * @param taskList the taskList to search.
+     * @param storage the storage for referencing.
+     * @throws AuroraException if an error occurs in a lower-level method.
+     */
+    @Override
+    public void execute(TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        super.execute(taskList, storage);
+
+        Output output = Output.getSingleton();
+        TaskList filteredList = taskList.findWithinPeriod(fromDate, toDate);
+
+        if (filteredList.getSize() == 0) {
+            output.printMsg(EMPTY_LIST);
+            return;
+        }
+
+        output.printMsg(filteredList.toString());
+    }
+
+    /**
+     * Parses the arguments for the command.
+     *
+     * @param argsList the arguments to parse.
+     * @throws AuroraException the appropriate exception message if unable to parse arguments.
+     */
+    @Override
+    public void parseArgs(String[] argsList) throws AuroraException {
+        /*
+         * The code may seem to be duplicated as a number of commands may share similar parsing.
+         * However, the code is designed with the fact that the parsing of arguments is meant to be
+         * coupled with the command it is parsing for, for ease of extending the code.
+         */
+
+        assert(argsList != null) : "The argsList is null.";
+
+        // If no arguments provided
+        if (argsList.length < 2 || argsList[1].trim().isEmpty()) {
+            throw new AuroraException(MISSING_FROM_ARG + "\n" + USAGE);
+        }
+
+        String argument = argsList[1];
+        int toDateStartIndex = findArgumentStartIndex(TO_ARG_IDENTIFIER, argument);
+
+        // If there is no /to
+        if (toDateStartIndex == -1) {
+            throw new AuroraException(MISSING_TO_ARG_IDENTIFIER + "\n" + USAGE);
+
+        // If there is nothing before /to
+        } else if (!hasTextBeforeArgument(toDateStartIndex, argument)) {
+            throw new AuroraException(MISSING_FROM_ARG + "\n" + USAGE);
+
+        // If there is no details after /to
+        } else if (toDateStartIndex + TO_ARG_IDENTIFIER.length() == argument.length()) {
+            throw new AuroraException(MISSING_TO_ARG + "\n" + USAGE);
+        }
+
+        /*
+         * Attempt to parse dates
+         */
+        Parser parser = Parser.of();
+
+        String fromDateString = argument.substring(0, toDateStartIndex).trim();
+        LocalDateTime parsedFromDate = parser.parseDateTime(fromDateString);
+        if (parsedFromDate == null) {
+            throw new AuroraException(INVALID_FROM_DATE_ARG + "\n" + USAGE);
+        }
+
+        String toDateString = argument.substring(toDateStartIndex + TO_ARG_IDENTIFIER.length()).trim();
+        LocalDateTime parsedToDate = parser.parseDateTime(toDateString);
+        if (parsedToDate == null) {
+            throw new AuroraException(INVALID_TO_DATE_ARG + "\n" + USAGE);
+        }
+
+        if (parsedFromDate.isAfter(parsedToDate)) {
+            throw new AuroraException(INVALID_PERIOD + "\n" + USAGE);
+        }
+
+        /*
+         * Parse arguments into commands
+         */
+        fromDate = parsedFromDate;
+        toDate = parsedToDate;
+
+        super.parseArgs(argsList);
+    }
+
+}
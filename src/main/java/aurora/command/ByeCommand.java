@@ -1,8 +1,8 @@
 package aurora.command;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
 import aurora.task.TaskList;
 
 /**
@@ -16,6 +16,8 @@ public class ByeCommand extends Command {
 
     /**
      * Executes the command to print a goodbye message.
+     * Every command entered before has already executed, as commands execute in order, and every queued
+     * write is flushed to disk before Aurora closes.
      *
      * @param taskList the taskList for referencing.
      * @param storage the storage for referencing.
@@ -29,9 +31,11 @@ public class ByeCommand extends Command {
 
         super.execute(taskList, storage);
 
-        Ui ui = Ui.getSingleton();
-        ui.printMsg(BYE_MESSAGE);
-        ui.close();
+        storage.flush(); // throws AuroraException and keeps Aurora open if a write failed
+
+        Output output = Output.getSingleton();
+        output.printMsg(BYE_MESSAGE);
+        output.close();
 
     }
 
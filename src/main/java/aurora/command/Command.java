@@ -4,15 +4,27 @@ import java.util.ArrayList;
 import java.util.List;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Reminders;
 import aurora.io.Storage;
+import aurora.task.History;
 import aurora.task.Task;
 import aurora.task.TaskList;
+import aurora.util.Parser;
 
 /**
  * Represents a command with the ability to parse arguments and be executed.
  */
 public abstract class Command {
 
+    protected static final int DEFAULT_PAGE_SIZE = 50;
+
+    private static final String PAGE_POSITION_MSG = "Page %d of %d, showing tasks %d to %d of %d.";
+
+    // Exception messages
+    private static final String INVALID_PAGE =
+            "Invalid arguments: page %d is past the last page, %d.";
+
     // Fields to prevent misuse of commands
     private boolean isArgParsed = false;
     private boolean isCmdExecuted = false;
@@ -56,9 +68,7 @@ public abstract class Command {
         assert(task != null) : "The task is null.";
         assert(storage != null) : "Storage is null.";
 
-        List<String> lines = new ArrayList<>();
-        lines.add(task.toFileFormat());
-        storage.appendTaskListFile(lines);
+        storage.appendTaskListFile(List.of(task));
     }
 
     /**
@@ -73,8 +83,274 @@ public abstract class Command {
         assert(taskList != null) : "The taskList is null.";
         assert(storage != null) : "Storage is null.";
 
-        List<String> lines = taskList.toFileFormat();
-        storage.overwriteTaskListFile(lines);
+        storage.overwriteTaskListFile(taskList.getTasks(), taskList.getNextId());
+    }
+
+    /**
+     * Persists the addition of a task to the task list, and schedules a reminder for it.
+     * In journaled mode only a single record holding the task and its ID is appended, otherwise the task
+     * is appended to the task list file directly.
+     *
+     * @param task the task that was added.
+     * @param taskList the taskList after the addition.
+     * @param storage the storage to write to.
+     * @throws AuroraException if unable to write to storage.
+     */
+    public void persistAddition(Task task, TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(task != null) : "The task is null.";
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        Reminders.of().schedule(task);
+
+        if (!storage.isJournaled()) {
+            appendTaskListFile(task, storage);
+            return;
+        }
+
+        storage.appendJournalRecord(Storage.JOURNAL_ADD, Parser.TASK_ID_PREFIX + task.getId() + " | "
+                + task.toFileFormat());
+        compactJournalIfNeeded(taskList, storage);
+    }
+
+    /**
+     * Persists a mutation of a task of the task list, and updates its reminder.
+     * In journaled mode only a single record referring to the task by ID is appended, otherwise the whole
+     * task list file is overwritten.
+     *
+     * @param operation the mutation, one of Storage.JOURNAL_DELETE, JOURNAL_MARK or JOURNAL_UNMARK.
+     * @param task the task that was mutated.
+     * @param taskList the taskList after the mutation.
+     * @param storage the storage to write to.
+     * @throws AuroraException if unable to write to storage.
+     */
+    public void persistMutation(String operation, Task task, TaskList taskList, Storage storage)
+            throws AuroraException {
+
+        assert(operation != null) : "The operation is null.";
+        assert(task != null) : "The task is null.";
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        updateReminders(operation, List.of(task));
+
+        if (!storage.isJournaled()) {
+            overwriteTaskListFile(taskList, storage);
+            return;
+        }
+
+        storage.appendJournalRecord(operation, Parser.TASK_ID_PREFIX + task.getId());
+        compactJournalIfNeeded(taskList, storage);
+    }
+
+    /**
+     * Persists a mutation of several tasks of the task list with a single write, and updates their reminders.
+     * In journaled mode one record per task is appended in one batch, otherwise the whole task list file is
+     * overwritten once.
+     *
+     * @param operation the mutation, one of Storage.JOURNAL_DELETE, JOURNAL_MARK, JOURNAL_UNMARK or JOURNAL_RESTORE.
+     * @param tasks the tasks that were mutated.
+     * @param taskList the taskList after the mutation.
+     * @param storage the storage to write to.
+     * @throws AuroraException if unable to write to storage.
+     */
+    public void persistMutations(String operation, List<Task> tasks, TaskList taskList, Storage storage)
+            throws AuroraException {
+
+        assert(operation != null) : "The operation is null.";
+        assert(tasks != null) : "The tasks are null.";
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        updateReminders(operation, tasks);
+
+        if (!storage.isJournaled()) {
+            overwriteTaskListFile(taskList, storage);
+            return;
+        }
+
+        List<String> arguments = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            // A task put back is recorded whole, as it is no longer in the task list file
+            if (operation.equals(Storage.JOURNAL_RESTORE)) {
+                arguments.add(Parser.TASK_ID_PREFIX + task.getId() + " | " + task.toFileFormat());
+            } else {
+                arguments.add(Parser.TASK_ID_PREFIX + task.getId());
+            }
+        }
+
+        storage.appendJournalRecords(operation, arguments);
+        compactJournalIfNeeded(taskList, storage);
+    }
+
+    /**
+     * Persists a step undone or redone from the history of the task list with a single write.
+     * Reminders are updated from the tasks as they are now, since the step may hold copies of the tasks from
+     * before the step.
+     *
+     * @param step the step that was applied to the task list.
+     * @param taskList the taskList after the step.
+     * @param storage the storage to write to.
+     * @throws AuroraException if unable to write to storage.
+     */
+    public void persistStep(History.Step step, TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(step != null) : "The step is null.";
+
+        String operation;
+        switch (step.getOperation()) {
+        case DELETE:
+            operation = Storage.JOURNAL_DELETE;
+            break;
+        case RESTORE:
+            operation = Storage.JOURNAL_RESTORE;
+            break;
+        case MARK:
+            operation = Storage.JOURNAL_MARK;
+            break;
+        case UNMARK:
+            operation = Storage.JOURNAL_UNMARK;
+            break;
+        default:
+            throw new AssertionError(step.getOperation());
+        }
+
+        persistMutations(operation, getCurrentTasks(step, taskList), taskList, storage);
+    }
+
+    /**
+     * Gets the first task of a step undone or redone as it is now, since the step may hold a copy of the
+     * task from before the step.
+     *
+     * @param step the step that was applied to the task list.
+     * @param taskList the taskList after the step.
+     * @return the task as it is in the list, or as it was deleted.
+     * @throws AuroraException if the task is missing from the list when it should be in it.
+     */
+    protected Task getCurrentTask(History.Step step, TaskList taskList) throws AuroraException {
+
+        assert(step != null) : "The step is null.";
+
+        Task task = step.getTasks().get(0);
+        if (step.getOperation() == History.Operation.DELETE) {
+            return task;
+        }
+
+        return taskList.getTaskById(task.getId());
+    }
+
+    /**
+     * Gets every task of a step undone or redone as it is now, since the step may hold copies of the tasks
+     * from before the step.
+     *
+     * @param step the step that was applied to the task list.
+     * @param taskList the taskList after the step.
+     * @return the tasks as they are in the list, or as they were deleted, in order.
+     * @throws AuroraException if a task is missing from the list when it should be in it.
+     */
+    private List<Task> getCurrentTasks(History.Step step, TaskList taskList) throws AuroraException {
+        if (step.getOperation() == History.Operation.DELETE) {
+            return step.getTasks();
+        }
+
+        List<Task> tasks = new ArrayList<>(step.getTasks().size());
+        for (Task task : step.getTasks()) {
+            tasks.add(taskList.getTaskById(task.getId()));
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Gets the tasks at several indices that are done, or that are not done.
+     * Marking only changes the tasks that are not done, and unmarking only those that are, so this finds
+     * the tasks a bulk command will change before it changes them.
+     *
+     * @param taskList the taskList to get the tasks from.
+     * @param indices the 1-based indices of the tasks.
+     * @param isDone whether to get the tasks that are done or those that are not.
+     * @return the tasks, in order.
+     * @throws AuroraException if any index is out of bounds.
+     */
+    protected List<Task> getTasksByDone(TaskList taskList, int[] indices, boolean isDone) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(indices != null) : "The indices are null.";
+
+        List<Task> tasks = new ArrayList<>();
+        for (int index : indices) {
+            Task task = taskList.getTask(index); // throws an exception
+            if (task.isDone() == isDone) {
+                tasks.add(task);
+            }
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Brings the reminders of mutated tasks up to date, cancelling those of tasks deleted or marked as done.
+     *
+     * @param operation the mutation, one of Storage.JOURNAL_DELETE, JOURNAL_MARK, JOURNAL_UNMARK or JOURNAL_RESTORE.
+     * @param tasks the tasks that were mutated.
+     */
+    private void updateReminders(String operation, List<Task> tasks) {
+        Reminders reminders = Reminders.of();
+        boolean isCancelled = operation.equals(Storage.JOURNAL_DELETE) || operation.equals(Storage.JOURNAL_MARK);
+
+        for (Task task : tasks) {
+            if (isCancelled) {
+                reminders.cancel(task);
+            } else {
+                reminders.schedule(task);
+            }
+        }
+    }
+
+    /**
+     * Folds the journal into the task list file once it has grown past its threshold.
+     *
+     * @param taskList the taskList reflecting every journal record.
+     * @param storage the storage to compact.
+     */
+    private void compactJournalIfNeeded(TaskList taskList, Storage storage) {
+        if (storage.needsCompaction()) {
+            storage.compactJournal(taskList.getTasks(), taskList.getNextId());
+        }
+    }
+
+    /**
+     * Prints one page of a task list, formatting only the tasks on the page.
+     * A list that does not fit on one page is followed by the position of the page within it.
+     *
+     * @param taskList the non-empty taskList to print a page of.
+     * @param page the 1-based page number.
+     * @param pageSize the number of tasks on a page.
+     * @throws AuroraException if the page is past the last page.
+     */
+    protected void printPage(TaskList taskList, int page, int pageSize) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(page >= 1) : "The page is less than 1.";
+        assert(pageSize >= 1) : "The page size is less than 1.";
+
+        int size = taskList.getSize();
+        int pageCount = size / pageSize + (size % pageSize == 0 ? 0 : 1);
+        if (page > pageCount) {
+            throw new AuroraException(String.format(INVALID_PAGE, page, pageCount));
+        }
+
+        int fromIndex = (page - 1) * pageSize + 1;
+        String pageString = taskList.toString(fromIndex, pageSize);
+        if (pageCount == 1) {
+            Output.getSingleton().printMsg(pageString);
+            return;
+        }
+
+        int toIndex = fromIndex + Math.min(pageSize, size - fromIndex + 1) - 1;
+        Output.getSingleton().printMsg(pageString + "\n"
+                + String.format(PAGE_POSITION_MSG, page, pageCount, fromIndex, toIndex, size));
     }
 
     /**
@@ -0,0 +1,129 @@
+package aurora.command;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+/**
+ * Represents a worker that parses and executes user input off the JavaFX application thread.
+ * Inputs and other jobs, such as loading the task list, are run one at a time in the order they were
+ * submitted, so each command sees the effects of everything before it, and the window stays responsive while
+ * commands scan the task list or write to disk.
+ * Once "bye" has executed, anything still queued behind it is dropped.
+ */
+public class CommandExecutor {
+
+    private static final String THREAD_NAME = "aurora-command";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final TaskList taskList;
+    private final Storage storage;
+    private final ExecutorService worker;
+
+    // Set on the worker once "bye" has executed
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs a new CommandExecutor.
+     *
+     * @param taskList the taskList commands are executed on.
+     * @param storage the storage commands write to.
+     */
+    public CommandExecutor(TaskList taskList, Storage storage) {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        this.taskList = taskList;
+        this.storage = storage;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues user input to be executed after every input submitted before it.
+     * Returns without waiting for the input to be executed.
+     *
+     * @param input the user input.
+     */
+    public void submit(String input) {
+
+        assert(input != null) : "The input is null.";
+
+        submitJob(() -> {
+            Command command = Parser.of().parseCommand(input);
+            command.execute(taskList, storage);
+            isClosed = command instanceof ByeCommand;
+        });
+    }
+
+    /**
+     * Queues a job to run after everything submitted before it.
+     * Returns without waiting for the job to run.
+     *
+     * @param job the job to run.
+     */
+    public void submitJob(Job job) {
+
+        assert(job != null) : "The job is null.";
+
+        if (!worker.isShutdown()) {
+            worker.execute(() -> run(job));
+        }
+    }
+
+    /**
+     * Stops accepting input and waits for every input already queued to finish executing.
+     *
+     * @return true if every queued input finished within the timeout.
+     */
+    public boolean shutdown() {
+        worker.shutdown();
+        try {
+            return worker.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Runs a job on the worker, printing the error message if it fails.
+     *
+     * @param job the job to run.
+     */
+    private void run(Job job) {
+        if (isClosed) {
+            return;
+        }
+
+        try {
+            job.run();
+        } catch (AuroraException e) {
+            Output.getSingleton().printMsg(e.getMessage());
+        }
+    }
+
+    /**
+     * Represents work run on the worker in turn with the commands.
+     */
+    @FunctionalInterface
+    public interface Job {
+
+        /**
+         * Runs the job.
+         *
+         * @throws AuroraException if the job fails, with the message to show the user.
+         */
+        void run() throws AuroraException;
+    }
+}
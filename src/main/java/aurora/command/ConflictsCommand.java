@@ -0,0 +1,58 @@
+package aurora.command;
+
+import java.util.List;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.EventConflicts;
+import aurora.task.TaskList;
+
+/**
+ * Represents a command to display every pair of events not yet done that overlap.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String CMD_KEYWORD = "conflicts";
+
+    private static final String CONFLICTS_MSG = "These events overlap:";
+    private static final String NO_CONFLICTS_MSG = "No events overlap.";
+
+    /**
+     * Executes the command to display every pair of overlapping events, numbered in order of the later start.
+     *
+     * @param taskList the taskList to search.
+     * @param storage the storage for referencing.
+     * @throws AuroraException if an error occurs in a lower-level method.
+     */
+    @Override
+    public void execute(TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        super.execute(taskList, storage);
+
+        Output output = Output.getSingleton();
+        List<EventConflicts.Conflict> conflicts = EventConflicts.findAll(taskList);
+
+        if (conflicts.isEmpty()) {
+            output.printMsg(NO_CONFLICTS_MSG);
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(CONFLICTS_MSG);
+        int number = 1;
+        for (EventConflicts.Conflict conflict : conflicts) {
+            String prefix = number + ". ";
+            message.append("\n").append(prefix)
+                    .append("#").append(conflict.getFirst().getId()).append(" ").append(conflict.getFirst())
+                    .append("\n").append(" ".repeat(prefix.length()))
+                    .append("#").append(conflict.getSecond().getId()).append(" ").append(conflict.getSecond());
+            number++;
+        }
+
+        output.printMsg(message.toString());
+    }
+
+}
@@ -1,36 +1,47 @@
 package aurora.command;
 
+import java.util.List;
+
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
+import aurora.task.History;
 import aurora.task.Task;
 import aurora.task.TaskList;
 import aurora.util.Parser;
 
 /**
- * Represents a command to delete a task from the TaskList at a specified index.
+ * Represents a command to delete a task from the TaskList at a specified index or with a specified ID.
  */
 public class DeleteCommand extends Command {
 
     public static final String CMD_KEYWORD = "delete";
 
-    private static final String USAGE = "Usage: \"delete Index\"";
-    private static final String TASK_REMOVED_MSG = "I've remove this task:%n%s%nNow you have %d tasks in the list!";
+    private static final String USAGE = "Usage: \"delete Index\", \"delete #Id\", \"delete Index,From-To\", "
+            + "\"delete /done\" or \"delete /find Keyword\"";
+    private static final String TASK_REMOVED_MSG = "I've removed this task:%n%s%nNow you have %d tasks in the list!";
+    private static final String TASKS_REMOVED_MSG = "I've removed %d tasks.%nNow you have %d tasks in the list!";
 
     // Exception messages
     private static final String MISSING_INDEX =
             "Missing argument: \"Index\".";
     private static final String INVALID_INDEX_ARG =
-            "Invalid arguments: index must be a valid integer value.";
+            "Invalid arguments: index must be a valid integer value or a task ID such as \"#3\".";
 
     // The index to the task to delete is at
     private int index;
 
+    // The ID of the task to delete, or NO_ID if it is given by index
+    private long id = Task.NO_ID;
+
+    // The tasks to delete, or null if a single task is given
+    private TaskSelection selection = null;
+
     /**
      * Executes the command to delete a task at a specified index.
      *
      * @param taskList the taskList to delete from.
-     * @param storage the storage to overwrite with taskList data.
+     * @param storage the storage to record the change in.
      * @throws AuroraException if an error occurs in lower-level method.
      */
     @Override
@@ -41,11 +52,37 @@ public class DeleteCommand extends Command {
 
         super.execute(taskList, storage);
 
-        Task task = taskList.deleteFromList(index); // throws AuroraException if index is out of bounds
+        if (selection != null) {
+            executeBulk(taskList, storage);
+            return;
+        }
+
+        // throws AuroraException if index is out of bounds or no task has the ID
+        Task task = id != Task.NO_ID ? taskList.deleteFromListById(id) : taskList.deleteFromList(index);
+        taskList.getHistory().record(History.Operation.DELETE, List.of(task));
 
         String message = String.format(TASK_REMOVED_MSG, task, taskList.getSize());
-        Ui.getSingleton().printMsg(message);
-        overwriteTaskListFile(taskList, storage);
+        Output.getSingleton().printMsg(message);
+        persistMutation(Storage.JOURNAL_DELETE, task, taskList, storage);
+    }
+
+    /**
+     * Executes the command to delete several tasks, removing them in one pass and persisting once.
+     *
+     * @param taskList the taskList to delete from.
+     * @param storage the storage to record the change in.
+     * @throws AuroraException if any index is out of bounds or no task is selected.
+     */
+    private void executeBulk(TaskList taskList, Storage storage) throws AuroraException {
+        // throws AuroraException if any index is out of bounds, before any task is deleted
+        List<Task> tasks = taskList.deleteFromList(selection.resolve(taskList));
+        taskList.getHistory().record(History.Operation.DELETE, tasks);
+
+        String message = tasks.size() == 1
+                ? String.format(TASK_REMOVED_MSG, tasks.get(0), taskList.getSize())
+                : String.format(TASKS_REMOVED_MSG, tasks.size(), taskList.getSize());
+        Output.getSingleton().printMsg(message);
+        persistMutations(Storage.JOURNAL_DELETE, tasks, taskList, storage);
     }
 
     /**
@@ -68,12 +105,21 @@ public class DeleteCommand extends Command {
         if (argsList.length < 2) {
             throw new AuroraException(MISSING_INDEX + "\n" + USAGE);
 
+        // Argument provided selects several tasks
+        } else if (TaskSelection.isSelection(argsList[1])) {
+            selection = TaskSelection.parse(argsList[1]);
+
+        // Argument provided is a task ID
+        } else if (Parser.of().isTaskId(argsList[1])) {
+            id = Parser.of().parseTaskId(argsList[1]);
+
         // Argument provided is not an integer
         } else if (!Parser.of().canParseInt(argsList[1])) {
             throw new AuroraException(INVALID_INDEX_ARG + "\n" + USAGE);
-        }
 
-        index = Integer.parseInt(argsList[1]);
+        } else {
+            index = Integer.parseInt(argsList[1]);
+        }
 
         super.parseArgs(argsList);
     }
@@ -1,26 +1,39 @@
 package aurora.command;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
 import aurora.task.TaskList;
+import aurora.util.Parser;
 
 /**
- * Represents a command to find tasks that match a keyword.
+ * Represents a command to find tasks that match a keyword, displayed one page at a time.
  */
 public class FindCommand extends Command {
 
     public static final String CMD_KEYWORD = "find";
 
-    private static final String USAGE = "Usage: \"find Keyword\"";
+    private static final String PAGE_ARG_IDENTIFIER = "/page";
+    private static final String SIZE_ARG_IDENTIFIER = "/size";
+    private static final String USAGE = "Usage: \"find Keyword [/page Page] [/size Size]\"";
     private static final String EMPTY_LIST = "The list is empty.";
 
     // Exception messages
     private static final String MISSING_KEYWORD_ARG =
             "Missing argument: \"Keyword\".";
+    private static final String MISSING_PAGE_ARG =
+            "Missing argument: \"Page\" in \"/page Page\".";
+    private static final String MISSING_SIZE_ARG =
+            "Missing argument: \"Size\" in \"/size Size\".";
+    private static final String INVALID_PAGE_ARG =
+            "Invalid arguments: page must be a positive integer value.";
+    private static final String INVALID_SIZE_ARG =
+            "Invalid arguments: size must be a positive integer value.";
 
     // FindCommand specific fields
     private String keyword;
+    private int page = 1;
+    private int pageSize = DEFAULT_PAGE_SIZE;
 
     /**
      * Executes the command to find tasks that match the keyword.
@@ -37,15 +50,15 @@ public class FindCommand extends Command {
 
         super.execute(taskList, storage);
 
-        Ui ui = Ui.getSingleton();
+        Output output = Output.getSingleton();
         TaskList filteredList = taskList.findMatchingKeyword(keyword);
 
         if (filteredList.getSize() == 0) {
-            ui.printMsg(EMPTY_LIST);
+            output.printMsg(EMPTY_LIST);
             return;
         }
 
-        ui.printMsg(filteredList.toString());
+        printPage(filteredList, page, pageSize); // throws AuroraException if the page is past the last page
     }
 
     /**
@@ -69,14 +82,74 @@ public class FindCommand extends Command {
             throw new AuroraException(MISSING_KEYWORD_ARG + "\n" + USAGE);
         }
 
-        keyword = argsList[1].trim();
+        String arguments = argsList[1];
+        int pageArgStartIndex = findArgumentStartIndex(PAGE_ARG_IDENTIFIER, arguments);
+        int sizeArgStartIndex = findArgumentStartIndex(SIZE_ARG_IDENTIFIER, arguments);
+
+        // The keyword ends where the first of the optional arguments starts
+        int keywordEndIndex = arguments.length();
+        if (pageArgStartIndex != -1) {
+            keywordEndIndex = pageArgStartIndex;
+        }
+        if (sizeArgStartIndex != -1) {
+            keywordEndIndex = Math.min(keywordEndIndex, sizeArgStartIndex);
+        }
+
+        keyword = arguments.substring(0, keywordEndIndex).trim();
 
         // If there is no description provided
         if (keyword.isEmpty()) {
             throw new AuroraException(MISSING_KEYWORD_ARG + "\n" + USAGE);
         }
 
+        if (pageArgStartIndex != -1) {
+            String pageArg = getArgumentValue(arguments, pageArgStartIndex, PAGE_ARG_IDENTIFIER, sizeArgStartIndex);
+            if (pageArg.isEmpty()) {
+                throw new AuroraException(MISSING_PAGE_ARG + "\n" + USAGE);
+            }
+            page = parsePositiveInt(pageArg, INVALID_PAGE_ARG);
+        }
+
+        if (sizeArgStartIndex != -1) {
+            String sizeArg = getArgumentValue(arguments, sizeArgStartIndex, SIZE_ARG_IDENTIFIER, pageArgStartIndex);
+            if (sizeArg.isEmpty()) {
+                throw new AuroraException(MISSING_SIZE_ARG + "\n" + USAGE);
+            }
+            pageSize = parsePositiveInt(sizeArg, INVALID_SIZE_ARG);
+        }
+
         super.parseArgs(argsList);
     }
 
+    /**
+     * Gets the value of an argument, which runs until the other argument if that comes later.
+     *
+     * @param arguments the argument string.
+     * @param argStartIndex the start index of the argument's identifier.
+     * @param argIdentifier the "/param" of the argument.
+     * @param otherArgStartIndex the start index of the other argument, or -1 if absent.
+     * @return the trimmed value of the argument.
+     */
+    private String getArgumentValue(String arguments, int argStartIndex, String argIdentifier,
+            int otherArgStartIndex) {
+        int valueEndIndex = otherArgStartIndex > argStartIndex ? otherArgStartIndex : arguments.length();
+        return arguments.substring(argStartIndex + argIdentifier.length(), valueEndIndex).trim();
+    }
+
+    /**
+     * Parses an argument into a positive integer.
+     *
+     * @param arg the argument to parse.
+     * @param invalidArgMessage the exception message if the argument is not a positive integer.
+     * @return the positive integer.
+     * @throws AuroraException if the argument is not a positive integer.
+     */
+    private int parsePositiveInt(String arg, String invalidArgMessage) throws AuroraException {
+        if (!Parser.of().canParseInt(arg) || Integer.parseInt(arg) < 1) {
+            throw new AuroraException(invalidArgMessage + "\n" + USAGE);
+        }
+
+        return Integer.parseInt(arg);
+    }
+
 }
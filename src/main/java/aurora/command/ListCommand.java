@@ -1,21 +1,36 @@
 package aurora.command;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
 import aurora.task.TaskList;
+import aurora.util.Parser;
 
 /**
- * Represents a command to display the taskList.
+ * Represents a command to display the taskList one page at a time.
  */
 public class ListCommand extends Command {
 
     public static final String CMD_KEYWORD = "list";
 
+    private static final String SIZE_ARG_IDENTIFIER = "/size";
+    private static final String USAGE = "Usage: \"list [Page] [/size Size]\"";
     private static final String EMPTY_LIST = "The list is empty.";
 
+    // Exception messages
+    private static final String MISSING_SIZE_ARG =
+            "Missing argument: \"Size\" in \"/size Size\".";
+    private static final String INVALID_PAGE_ARG =
+            "Invalid arguments: page must be a positive integer value.";
+    private static final String INVALID_SIZE_ARG =
+            "Invalid arguments: size must be a positive integer value.";
+
+    // ListCommand specific fields
+    private int page = 1;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
     /**
-     * Executes the command to display the taskList.
+     * Executes the command to display a page of the taskList.
      *
      * @param taskList the taskList to display.
      * @param storage the storage for referencing.
@@ -29,14 +44,76 @@ public class ListCommand extends Command {
 
         super.execute(taskList, storage);
 
-        Ui ui = Ui.getSingleton();
+        Output output = Output.getSingleton();
 
         if (taskList.getSize() == 0) {
-            ui.printMsg(EMPTY_LIST);
+            output.printMsg(EMPTY_LIST);
+            return;
+        }
+
+        printPage(taskList, page, pageSize); // throws AuroraException if the page is past the last page
+    }
+
+    /**
+     * Parses the arguments for the command.
+     *
+     * @param argsList the arguments to parse.
+     * @throws AuroraException the appropriate exception message if unable to parse arguments.
+     */
+    @Override
+    public void parseArgs(String[] argsList) throws AuroraException {
+        /*
+         * The code may seem to be duplicated as a number of commands may share similar parsing.
+         * However, the code is designed with the fact that the parsing of arguments is meant to be
+         * coupled with the command it is parsing for, for ease of extending the code.
+         */
+
+        assert(argsList != null) : "The argsList is null.";
+
+        // Both the page and its size are optional
+        if (argsList.length < 2) {
+            super.parseArgs(argsList);
             return;
         }
 
-        ui.printMsg(taskList.toString());
+        String arguments = argsList[1];
+        int sizeArgStartIndex = findArgumentStartIndex(SIZE_ARG_IDENTIFIER, arguments);
+        String pageArg = arguments;
+
+        if (sizeArgStartIndex != -1) {
+            pageArg = arguments.substring(0, sizeArgStartIndex);
+            String sizeArg = arguments.substring(sizeArgStartIndex + SIZE_ARG_IDENTIFIER.length()).trim();
+
+            // If there is no size provided
+            if (sizeArg.isEmpty()) {
+                throw new AuroraException(MISSING_SIZE_ARG + "\n" + USAGE);
+            }
+
+            pageSize = parsePositiveInt(sizeArg, INVALID_SIZE_ARG);
+        }
+
+        pageArg = pageArg.trim();
+        if (!pageArg.isEmpty()) {
+            page = parsePositiveInt(pageArg, INVALID_PAGE_ARG);
+        }
+
+        super.parseArgs(argsList);
+    }
+
+    /**
+     * Parses an argument into a positive integer.
+     *
+     * @param arg the argument to parse.
+     * @param invalidArgMessage the exception message if the argument is not a positive integer.
+     * @return the positive integer.
+     * @throws AuroraException if the argument is not a positive integer.
+     */
+    private int parsePositiveInt(String arg, String invalidArgMessage) throws AuroraException {
+        if (!Parser.of().canParseInt(arg) || Integer.parseInt(arg) < 1) {
+            throw new AuroraException(invalidArgMessage + "\n" + USAGE);
+        }
+
+        return Integer.parseInt(arg);
     }
 
 }
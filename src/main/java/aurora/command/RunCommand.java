@@ -0,0 +1,139 @@
+package aurora.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import aurora.exception.AuroraException;
+import aurora.io.DeferredStorage;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+/**
+ * Represents a command to run every command in a file, one per line.
+ * The commands change only the taskList in memory, and the result is persisted in a single write at the end,
+ * so a long file runs as fast as it can be parsed. A line that fails is reported and the rest still run.
+ */
+public class RunCommand extends Command {
+
+    public static final String CMD_KEYWORD = "run";
+
+    private static final String USAGE = "Usage: \"run File\"";
+    private static final String RUN_SUMMARY_MSG = "Ran %d commands from %s, %d of which failed.";
+    private static final String LINE_ERROR_MSG = "Line %d: %s";
+
+    // Exception messages
+    private static final String MISSING_FILE_ARG =
+            "Missing argument: \"File\".";
+    private static final String INVALID_FILE_ARG =
+            "Invalid arguments: \"%s\" is not a valid file path.";
+    private static final String FILE_READ_FAIL =
+            "File could not be read: %s";
+    private static final String NOT_RUNNABLE_FROM_FILE =
+            "\"%s\" cannot be run from a file.";
+    private static final String UNEXPECTED_ERROR =
+            "Unexpected error: %s";
+
+    // RunCommand specific fields
+    private Path file;
+
+    /**
+     * Executes every command in the file against the taskList, then persists the taskList once.
+     *
+     * @param taskList the taskList to execute the commands on.
+     * @param storage the storage to persist the result to.
+     * @throws AuroraException if the file could not be read or the result could not be persisted.
+     */
+    @Override
+    public void execute(TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        super.execute(taskList, storage);
+
+        Parser parser = Parser.of();
+        Storage deferredStorage = new DeferredStorage();
+        StringBuilder lineErrors = new StringBuilder();
+        int commandCount = 0;
+        int failedCount = 0;
+        IOException readError = null;
+
+        // The replies of each command are not shown, only the errors
+        Output.setMuted(true);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    Command command = parser.parseCommand(line);
+                    if (command instanceof RunCommand || command instanceof ByeCommand) {
+                        throw new AuroraException(String.format(NOT_RUNNABLE_FROM_FILE, line.trim()));
+                    }
+                    command.execute(taskList, deferredStorage);
+                } catch (AuroraException e) {
+                    failedCount++;
+                    lineErrors.append('\n').append(String.format(LINE_ERROR_MSG, lineNumber, e.getMessage()));
+                } catch (RuntimeException e) {
+                    // A bug in one command must not stop the rest, nor lose what the lines before it changed
+                    failedCount++;
+                    lineErrors.append('\n').append(String.format(LINE_ERROR_MSG, lineNumber,
+                            String.format(UNEXPECTED_ERROR, e)));
+                }
+            }
+        } catch (IOException e) {
+            readError = e;
+        } finally {
+            Output.setMuted(false);
+
+            // Whatever ran is persisted, even if reading the file failed, as it is already in the taskList
+            if (commandCount > 0) {
+                storage.overwriteTaskListFile(taskList.getTasks(), taskList.getNextId());
+            }
+        }
+
+        if (readError != null) {
+            throw new AuroraException(String.format(FILE_READ_FAIL, file));
+        }
+
+        Output.getSingleton().printMsg(String.format(RUN_SUMMARY_MSG, commandCount, file, failedCount)
+                + lineErrors);
+    }
+
+    /**
+     * Parses the arguments for the command.
+     *
+     * @param argsList the arguments to parse.
+     * @throws AuroraException the appropriate exception message if unable to parse arguments.
+     */
+    @Override
+    public void parseArgs(String[] argsList) throws AuroraException {
+
+        assert(argsList != null) : "The argsList is null.";
+
+        // If no arguments provided
+        if (argsList.length < 2 || argsList[1].trim().isEmpty()) {
+            throw new AuroraException(MISSING_FILE_ARG + "\n" + USAGE);
+        }
+
+        String fileArg = argsList[1].trim();
+        try {
+            file = Paths.get(fileArg);
+        } catch (InvalidPathException e) {
+            throw new AuroraException(String.format(INVALID_FILE_ARG, fileArg) + "\n" + USAGE);
+        }
+
+        super.parseArgs(argsList);
+    }
+}
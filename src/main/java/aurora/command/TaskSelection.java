@@ -0,0 +1,227 @@
+package aurora.command;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import aurora.exception.AuroraException;
+import aurora.task.Task;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+/**
+ * Represents a selection of several tasks for a bulk command, given as a comma-separated list of indices
+ * and ranges such as "3,8,20-40", as "/done" for every task that is done, or as "/find Keyword" for every
+ * task with a keyword in its description.
+ * The selection is resolved against the task list when the command is executed.
+ */
+class TaskSelection {
+
+    private static final String DONE_ARG_IDENTIFIER = "/done";
+    private static final String FIND_ARG_IDENTIFIER = "/find";
+    private static final String LIST_SEPARATOR = ",";
+    private static final char RANGE_SEPARATOR = '-';
+
+    // Exception messages
+    private static final String INVALID_SELECTION_ARG =
+            "Invalid arguments: \"%s\" is not an index or a range of indices such as \"20-40\".";
+    private static final String INVALID_RANGE_ARG =
+            "Invalid arguments: the range \"%s\" ends before it starts.";
+    private static final String MISSING_KEYWORD_ARG =
+            "Missing argument: \"Keyword\" after \"/find\".";
+    private static final String UNKNOWN_FILTER_ARG =
+            "Invalid arguments: \"%s\" is not \"/done\" or \"/find\".";
+    private static final String NO_TASKS_SELECTED =
+            "No tasks match the selection.";
+
+    // The first and last index of every range, with single indices as ranges of one
+    private final int[] rangeStarts;
+    private final int[] rangeEnds;
+
+    // The keyword to select tasks by, or null if tasks are not selected by keyword
+    private final String keyword;
+    private final boolean isDoneSelected;
+
+    /**
+     * Constructs a new TaskSelection.
+     *
+     * @param rangeStarts the first index of every range.
+     * @param rangeEnds the last index of every range.
+     * @param keyword the keyword to select tasks by, or null.
+     * @param isDoneSelected whether every task that is done is selected.
+     */
+    private TaskSelection(int[] rangeStarts, int[] rangeEnds, String keyword, boolean isDoneSelected) {
+        this.rangeStarts = rangeStarts;
+        this.rangeEnds = rangeEnds;
+        this.keyword = keyword;
+        this.isDoneSelected = isDoneSelected;
+    }
+
+    /**
+     * Checks if an argument selects several tasks rather than a single index or task ID.
+     *
+     * @param argument the argument to check.
+     * @return true if the argument is a filter, a list or a range.
+     */
+    public static boolean isSelection(String argument) {
+
+        assert(argument != null) : "argument is null.";
+
+        return argument.startsWith("/") || argument.contains(LIST_SEPARATOR)
+                || argument.indexOf(RANGE_SEPARATOR, 1) != -1;
+    }
+
+    /**
+     * Parses a selection of several tasks.
+     *
+     * @param argument the argument to parse, which must be a selection as checked by {@link #isSelection(String)}.
+     * @return the selection.
+     * @throws AuroraException if the selection is malformed.
+     */
+    public static TaskSelection parse(String argument) throws AuroraException {
+
+        assert(argument != null) : "argument is null.";
+
+        String trimmedArgument = argument.trim();
+        String[] filterArgs = trimmedArgument.split(" ", 2);
+
+        if (trimmedArgument.equals(DONE_ARG_IDENTIFIER)) {
+            return new TaskSelection(new int[0], new int[0], null, true);
+
+        } else if (filterArgs[0].equals(FIND_ARG_IDENTIFIER)) {
+            String keyword = filterArgs.length < 2 ? "" : filterArgs[1].trim();
+            if (keyword.isEmpty()) {
+                throw new AuroraException(MISSING_KEYWORD_ARG);
+            }
+            return new TaskSelection(new int[0], new int[0], keyword, false);
+
+        } else if (trimmedArgument.startsWith("/")) {
+            throw new AuroraException(String.format(UNKNOWN_FILTER_ARG, filterArgs[0]));
+        }
+
+        String[] parts = trimmedArgument.split(LIST_SEPARATOR);
+        int[] rangeStarts = new int[parts.length];
+        int[] rangeEnds = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            int separatorIndex = part.indexOf(RANGE_SEPARATOR, 1);
+
+            if (separatorIndex == -1) {
+                rangeStarts[i] = parseIndex(part, part);
+                rangeEnds[i] = rangeStarts[i];
+            } else {
+                rangeStarts[i] = parseIndex(part.substring(0, separatorIndex).trim(), part);
+                rangeEnds[i] = parseIndex(part.substring(separatorIndex + 1).trim(), part);
+                if (rangeEnds[i] < rangeStarts[i]) {
+                    throw new AuroraException(String.format(INVALID_RANGE_ARG, part));
+                }
+            }
+        }
+
+        return new TaskSelection(rangeStarts, rangeEnds, null, false);
+    }
+
+    /**
+     * Parses one end of a range.
+     *
+     * @param input the string to parse.
+     * @param part the part of the selection the string is from, for the exception message.
+     * @return the index.
+     * @throws AuroraException if the string is not an integer.
+     */
+    private static int parseIndex(String input, String part) throws AuroraException {
+        if (!Parser.of().canParseInt(input)) {
+            throw new AuroraException(String.format(INVALID_SELECTION_ARG, part));
+        }
+
+        return Integer.parseInt(input);
+    }
+
+    /**
+     * Resolves the selection into the indices of the selected tasks.
+     *
+     * @param taskList the taskList to select from.
+     * @return the 1-based indices of the selected tasks, distinct and in ascending order.
+     * @throws AuroraException if an index is out of bounds or no task is selected.
+     */
+    public int[] resolve(TaskList taskList) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+
+        int[] indices;
+        if (isDoneSelected) {
+            indices = resolveDone(taskList);
+        } else if (keyword != null) {
+            indices = resolveKeyword(taskList);
+        } else {
+            indices = resolveRanges(taskList);
+        }
+
+        if (indices.length == 0) {
+            throw new AuroraException(NO_TASKS_SELECTED);
+        }
+
+        return indices;
+    }
+
+    /**
+     * Resolves the ranges into indices, merging any that overlap.
+     *
+     * @param taskList the taskList to select from.
+     * @return the indices.
+     * @throws AuroraException if a range is out of bounds.
+     */
+    private int[] resolveRanges(TaskList taskList) throws AuroraException {
+        for (int i = 0; i < rangeStarts.length; i++) {
+            taskList.validateIndex(rangeStarts[i]); // throws an exception
+            taskList.validateIndex(rangeEnds[i]); // throws an exception
+        }
+
+        BitSet selected = new BitSet(taskList.getSize() + 1);
+        for (int i = 0; i < rangeStarts.length; i++) {
+            selected.set(rangeStarts[i], rangeEnds[i] + 1);
+        }
+
+        return selected.stream().toArray();
+    }
+
+    /**
+     * Resolves the indices of every task that is done.
+     *
+     * @param taskList the taskList to select from.
+     * @return the indices.
+     */
+    private int[] resolveDone(TaskList taskList) {
+        List<Task> tasks = taskList.getTasks();
+        int[] indices = new int[tasks.size()];
+        int count = 0;
+
+        int index = 1;
+        for (Task task : tasks) {
+            if (task.isDone()) {
+                indices[count++] = index;
+            }
+            index++;
+        }
+
+        return Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Resolves the indices of every task with the keyword in its description.
+     *
+     * @param taskList the taskList to select from.
+     * @return the indices.
+     * @throws AuroraException if a matching task is no longer in the list.
+     */
+    private int[] resolveKeyword(TaskList taskList) throws AuroraException {
+        List<Task> matches = taskList.findMatchingKeyword(keyword).getTasks();
+        int[] indices = new int[matches.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = taskList.getIndexById(matches.get(i).getId());
+        }
+
+        Arrays.sort(indices);
+        return indices;
+    }
+}
@@ -0,0 +1,50 @@
+package aurora.command;
+
+import java.util.List;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.Storage;
+import aurora.task.History;
+import aurora.task.Task;
+import aurora.task.TaskList;
+
+/**
+ * Represents a command to undo the latest change made to the TaskList by a command.
+ */
+public class UndoCommand extends Command {
+
+    public static final String CMD_KEYWORD = "undo";
+
+    private static final String TASK_UNDONE_MSG = "I've undone the last change to this task:%n%s%n"
+            + "Now you have %d tasks in the list!";
+    private static final String TASKS_UNDONE_MSG = "I've undone the last change to %d tasks.%n"
+            + "Now you have %d tasks in the list!";
+
+    /**
+     * Executes the command to undo the latest change, persisting only the tasks it changes back.
+     *
+     * @param taskList the taskList to undo the change in.
+     * @param storage the storage to record the change in.
+     * @throws AuroraException if there is nothing to undo or an error occurs in lower-level method.
+     */
+    @Override
+    public void execute(TaskList taskList, Storage storage) throws AuroraException {
+
+        assert(taskList != null) : "The taskList is null.";
+        assert(storage != null) : "Storage is null.";
+
+        super.execute(taskList, storage);
+
+        // throws AuroraException if there is nothing to undo
+        History.Step step = taskList.getHistory().undo(taskList);
+
+        List<Task> tasks = step.getTasks();
+        String message = tasks.size() == 1
+                ? String.format(TASK_UNDONE_MSG, getCurrentTask(step, taskList), taskList.getSize())
+                : String.format(TASKS_UNDONE_MSG, tasks.size(), taskList.getSize());
+        Output.getSingleton().printMsg(message);
+        persistStep(step, taskList, storage);
+    }
+
+}
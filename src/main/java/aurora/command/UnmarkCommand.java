@@ -1,36 +1,47 @@
 package aurora.command;
 
+import java.util.List;
+
 import aurora.exception.AuroraException;
+import aurora.io.Output;
 import aurora.io.Storage;
-import aurora.io.Ui;
+import aurora.task.History;
 import aurora.task.Task;
 import aurora.task.TaskList;
 import aurora.util.Parser;
 
 /**
- * Represents a command to mark a task as not done from the TaskList at a specified index.
+ * Represents a command to mark a task as not done from the TaskList at a specified index or with a specified ID.
  */
 public class UnmarkCommand extends Command {
 
     public static final String CMD_KEYWORD = "unmark";
 
-    private static final String USAGE = "Usage: \"unmark Index\"";
-    private static final String TASK_UNMARKED_MSG = "This task has been marked as done:%n%s";
+    private static final String USAGE = "Usage: \"unmark Index\", \"unmark #Id\", \"unmark Index,From-To\", "
+            + "\"unmark /done\" or \"unmark /find Keyword\"";
+    private static final String TASK_UNMARKED_MSG = "This task has been marked as not done:%n%s";
+    private static final String TASKS_UNMARKED_MSG = "These %d tasks have been marked as not done.";
 
     // Exception messages
     private static final String MISSING_INDEX =
             "Missing argument: \"Index\".";
     private static final String INVALID_INDEX_ARG =
-            "Invalid arguments: index must be a valid integer value.";
+            "Invalid arguments: index must be a valid integer value or a task ID such as \"#3\".";
 
     // The index to the task to unmark is at
     private int index;
 
+    // The ID of the task to unmark, or NO_ID if it is given by index
+    private long id = Task.NO_ID;
+
+    // The tasks to unmark, or null if a single task is given
+    private TaskSelection selection = null;
+
     /**
      * Executes the command to unmark a task at a specified index.
      *
      * @param taskList the taskList that the task to unmark is within.
-     * @param storage the storage to overwrite with taskList data.
+     * @param storage the storage to record the change in.
      * @throws AuroraException if an error occurs in lower-level method.
      */
     @Override
@@ -40,11 +51,43 @@ public class UnmarkCommand extends Command {
         assert(storage != null) : "Storage is null.";
 
         super.execute(taskList, storage);
-        Task task = taskList.unmarkTaskDone(index); // throws AuroraException if index is out of bounds
+
+        if (selection != null) {
+            executeBulk(taskList, storage);
+            return;
+        }
+
+        // throws AuroraException if index is out of bounds or no task has the ID
+        Task current = id != Task.NO_ID ? taskList.getTaskById(id) : taskList.getTask(index);
+        boolean wasDone = current.isDone();
+        Task task = taskList.unmarkTaskDoneById(current.getId());
+        // Only a change of state is recorded, and history ignores an empty step
+        taskList.getHistory().record(History.Operation.UNMARK, wasDone ? List.of(task) : List.of());
 
         String message = String.format(TASK_UNMARKED_MSG, task);
-        Ui.getSingleton().printMsg(message);
-        overwriteTaskListFile(taskList, storage);
+        Output.getSingleton().printMsg(message);
+        persistMutation(Storage.JOURNAL_UNMARK, task, taskList, storage);
+    }
+
+    /**
+     * Executes the command to unmark several tasks, unmarking them in one pass and persisting once.
+     *
+     * @param taskList the taskList that the tasks to unmark are within.
+     * @param storage the storage to record the change in.
+     * @throws AuroraException if any index is out of bounds or no task is selected.
+     */
+    private void executeBulk(TaskList taskList, Storage storage) throws AuroraException {
+        // throws AuroraException if any index is out of bounds, before any task is unmarked
+        int[] indices = selection.resolve(taskList);
+        List<Task> changedTasks = getTasksByDone(taskList, indices, true);
+        List<Task> tasks = taskList.unmarkTasksDone(indices);
+        taskList.getHistory().record(History.Operation.UNMARK, changedTasks);
+
+        String message = tasks.size() == 1
+                ? String.format(TASK_UNMARKED_MSG, tasks.get(0))
+                : String.format(TASKS_UNMARKED_MSG, tasks.size());
+        Output.getSingleton().printMsg(message);
+        persistMutations(Storage.JOURNAL_UNMARK, tasks, taskList, storage);
     }
 
     /**
@@ -67,12 +110,21 @@ public class UnmarkCommand extends Command {
         if (argsList.length < 2) {
             throw new AuroraException(MISSING_INDEX + "\n" + USAGE);
 
+        // Argument provided selects several tasks
+        } else if (TaskSelection.isSelection(argsList[1])) {
+            selection = TaskSelection.parse(argsList[1]);
+
+        // Argument provided is a task ID
+        } else if (Parser.of().isTaskId(argsList[1])) {
+            id = Parser.of().parseTaskId(argsList[1]);
+
         // Argument provided is not an integer
         } else if (!Parser.of().canParseInt(argsList[1])) {
             throw new AuroraException(INVALID_INDEX_ARG + "\n" + USAGE);
-        }
 
-        index = Integer.parseInt(argsList[1]);
+        } else {
+            index = Integer.parseInt(argsList[1]);
+        }
         super.parseArgs(argsList);
     }
 
@@ -0,0 +1,272 @@
+package aurora.io;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import aurora.task.Deadline;
+import aurora.task.DoWithinPeriod;
+import aurora.task.Event;
+import aurora.task.Task;
+import aurora.task.ToDo;
+import aurora.util.DateTimeUtil;
+
+/**
+ * Represents the binary encoding of the task list file.
+ * The file starts with a header of a magic number, a format version, the journal checkpoint and the next
+ * task ID. Each task is then stored as one type byte, one flags byte, the task ID, a length-prefixed UTF-8
+ * description and the task's date times as epoch-minute longs.
+ * Files of version 1, which have no task IDs, can still be read.
+ */
+public class BinaryTaskFormat {
+
+    // Header layout
+    public static final int MAGIC = 0x41555241; // "AURA"
+    public static final short VERSION = 2;
+    public static final short VERSION_WITHOUT_IDS = 1;
+    private static final int HEADER_WITHOUT_IDS_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    // Record layout
+    private static final int RECORD_PREFIX_WITHOUT_IDS_BYTES = Byte.BYTES + Byte.BYTES + Integer.BYTES;
+    private static final int FLAG_DONE = 1;
+    private static final byte TYPE_TODO = (byte) ToDo.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_DEADLINE = (byte) Deadline.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_EVENT = (byte) Event.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_DO_WITHIN_PERIOD = (byte) DoWithinPeriod.TASK_KEYWORD.charAt(0);
+
+    // Exception messages
+    private static final String INVALID_HEADER = "Task list file has an unrecognised header.";
+    private static final String INVALID_RECORD = "Task list file has an unrecognised task type: %d";
+
+    /**
+     * Constructs a new BinaryTaskFormat.
+     */
+    private BinaryTaskFormat() {}
+
+    /**
+     * Writes the file header.
+     *
+     * @param out the stream to write to.
+     * @param checkpointSeq the sequence number of the last journal record reflected in the file.
+     * @param nextTaskId the lowest task ID not yet given out.
+     * @throws IOException if unable to write.
+     */
+    public static void writeHeader(DataOutputStream out, long checkpointSeq, long nextTaskId) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(checkpointSeq);
+        out.writeLong(nextTaskId);
+    }
+
+    /**
+     * Reads and validates the file header.
+     *
+     * @param buffer the buffer positioned at the start of the file.
+     * @return the header.
+     * @throws IOException if the header is not a supported task list header.
+     */
+    public static Header readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_WITHOUT_IDS_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException(INVALID_HEADER);
+        }
+
+        short version = buffer.getShort();
+        long checkpointSeq = buffer.getLong();
+        if (version == VERSION_WITHOUT_IDS) {
+            return new Header(version, checkpointSeq, Task.NO_ID);
+        } else if (version != VERSION || buffer.remaining() < Long.BYTES) {
+            throw new IOException(INVALID_HEADER);
+        }
+
+        return new Header(version, checkpointSeq, buffer.getLong());
+    }
+
+    /**
+     * Writes a single task record.
+     *
+     * @param out the stream to write to.
+     * @param task the task to write.
+     * @throws IOException if unable to write.
+     */
+    public static void writeTask(DataOutputStream out, Task task) throws IOException {
+
+        assert(task != null) : "task is null.";
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+
+        out.writeByte(getType(task));
+        out.writeByte(task.isDone() ? FLAG_DONE : 0);
+        out.writeLong(task.getId());
+        out.writeInt(description.length);
+        out.write(description);
+
+        if (task instanceof Deadline) {
+            out.writeLong(DateTimeUtil.toEpochMinute(((Deadline) task).getByDate()));
+        } else if (task instanceof Event) {
+            out.writeLong(DateTimeUtil.toEpochMinute(((Event) task).getStartDate()));
+            out.writeLong(DateTimeUtil.toEpochMinute(((Event) task).getEndDate()));
+        } else if (task instanceof DoWithinPeriod) {
+            out.writeLong(DateTimeUtil.toEpochMinute(((DoWithinPeriod) task).getStartPeriodDate()));
+            out.writeLong(DateTimeUtil.toEpochMinute(((DoWithinPeriod) task).getEndPeriodDate()));
+        }
+    }
+
+    /**
+     * Gets the length of the record at the buffer's position without consuming it.
+     *
+     * @param buffer the buffer positioned at the start of a record.
+     * @param version the format version of the file.
+     * @return the length of the record in bytes, or -1 if the buffer does not hold enough bytes to tell.
+     * @throws IOException if the record has an unrecognised task type.
+     */
+    public static int peekRecordLength(ByteBuffer buffer, short version) throws IOException {
+        int start = buffer.position();
+        int prefixBytes = getRecordPrefixBytes(version);
+        if (buffer.remaining() < prefixBytes) {
+            return -1;
+        }
+
+        byte type = buffer.get(start);
+        int descriptionLength = buffer.getInt(start + prefixBytes - Integer.BYTES);
+        return prefixBytes + descriptionLength + getDateCount(type) * Long.BYTES;
+    }
+
+    /**
+     * Reads a single task record.
+     * The caller must make sure the whole record is in the buffer with {@link #peekRecordLength(ByteBuffer, short)}.
+     * Tasks read from a file without task IDs are left without one.
+     *
+     * @param buffer the buffer positioned at the start of a record.
+     * @param scratch a reusable array large enough to hold the description bytes.
+     * @param version the format version of the file.
+     * @return the task.
+     * @throws IOException if the record has an unrecognised task type.
+     */
+    public static Task readTask(ByteBuffer buffer, byte[] scratch, short version) throws IOException {
+        byte type = buffer.get();
+        byte flags = buffer.get();
+        long id = version == VERSION_WITHOUT_IDS ? Task.NO_ID : buffer.getLong();
+        int descriptionLength = buffer.getInt();
+
+        buffer.get(scratch, 0, descriptionLength);
+        String description = new String(scratch, 0, descriptionLength, StandardCharsets.UTF_8);
+
+        Task task;
+        if (type == TYPE_TODO) {
+            task = new ToDo(description);
+        } else if (type == TYPE_DEADLINE) {
+            task = new Deadline(description, DateTimeUtil.fromEpochMinute(buffer.getLong()));
+        } else if (type == TYPE_EVENT) {
+            task = new Event(description, DateTimeUtil.fromEpochMinute(buffer.getLong()),
+                    DateTimeUtil.fromEpochMinute(buffer.getLong()));
+        } else if (type == TYPE_DO_WITHIN_PERIOD) {
+            task = new DoWithinPeriod(description, DateTimeUtil.fromEpochMinute(buffer.getLong()),
+                    DateTimeUtil.fromEpochMinute(buffer.getLong()));
+        } else {
+            throw new IOException(String.format(INVALID_RECORD, type));
+        }
+
+        if ((flags & FLAG_DONE) != 0) {
+            task.markAsDone();
+        }
+        if (id != Task.NO_ID) {
+            task.setId(id);
+        }
+
+        return task;
+    }
+
+    /**
+     * Gets the number of bytes before the description of a record.
+     *
+     * @param version the format version of the file.
+     * @return the length of the type, flags, ID and description length fields.
+     */
+    private static int getRecordPrefixBytes(short version) {
+        if (version == VERSION_WITHOUT_IDS) {
+            return RECORD_PREFIX_WITHOUT_IDS_BYTES;
+        }
+
+        return RECORD_PREFIX_WITHOUT_IDS_BYTES + Long.BYTES;
+    }
+
+    /**
+     * Gets the type byte of a task.
+     *
+     * @param task the task.
+     * @return the type byte.
+     */
+    private static byte getType(Task task) {
+        if (task instanceof Deadline) {
+            return TYPE_DEADLINE;
+        } else if (task instanceof Event) {
+            return TYPE_EVENT;
+        } else if (task instanceof DoWithinPeriod) {
+            return TYPE_DO_WITHIN_PERIOD;
+        }
+
+        return TYPE_TODO;
+    }
+
+    /**
+     * Gets the number of date times stored for a task type.
+     *
+     * @param type the type byte.
+     * @return the number of epoch-minute longs following the description.
+     * @throws IOException if the type is unrecognised.
+     */
+    private static int getDateCount(byte type) throws IOException {
+        if (type == TYPE_TODO) {
+            return 0;
+        } else if (type == TYPE_DEADLINE) {
+            return 1;
+        } else if (type == TYPE_EVENT || type == TYPE_DO_WITHIN_PERIOD) {
+            return 2;
+        }
+
+        throw new IOException(String.format(INVALID_RECORD, type));
+    }
+
+    /**
+     * Represents the fields of a task list file header.
+     */
+    public static class Header {
+        private final short version;
+        private final long checkpointSeq;
+        private final long nextTaskId;
+
+        private Header(short version, long checkpointSeq, long nextTaskId) {
+            this.version = version;
+            this.checkpointSeq = checkpointSeq;
+            this.nextTaskId = nextTaskId;
+        }
+
+        /**
+         * Gets the format version of the file.
+         *
+         * @return the format version.
+         */
+        public short getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the sequence number of the last journal record reflected in the file.
+         *
+         * @return the checkpoint sequence number.
+         */
+        public long getCheckpointSeq() {
+            return checkpointSeq;
+        }
+
+        /**
+         * Gets the lowest task ID not yet given out when the file was written.
+         *
+         * @return the next task ID, or NO_ID if the file has no task IDs.
+         */
+        public long getNextTaskId() {
+            return nextTaskId;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package aurora.io;
+
+import java.io.PrintStream;
+
+/**
+ * Represents the console front end of Aurora, which prints each message between divider lines.
+ * It uses no JavaFX, so Aurora can run in a terminal or a script without a display.
+ */
+public class ConsoleUi implements Output {
+
+    private static final String DIVIDER = "=======================";
+
+    private final PrintStream out;
+    private final Runnable onClose;
+
+    /**
+     * Constructs a new ConsoleUi.
+     *
+     * @param out the stream to print messages to.
+     * @param onClose the action that exits Aurora once it is closed.
+     */
+    public ConsoleUi(PrintStream out, Runnable onClose) {
+
+        assert(out != null) : "out is null.";
+        assert(onClose != null) : "onClose is null.";
+
+        this.out = out;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Prints the message between divider lines.
+     * The message is printed in one call, so messages from different threads never interleave.
+     *
+     * @param msg the message to be displayed.
+     */
+    @Override
+    public void printMsg(String msg) {
+
+        assert(msg != null) : "msg is null.";
+
+        out.println(DIVIDER + "\n" + msg + "\n" + DIVIDER);
+    }
+
+    /**
+     * Closes Aurora, which has already printed every message when this is called.
+     */
+    @Override
+    public void close() {
+        out.flush();
+        onClose.run();
+    }
+}
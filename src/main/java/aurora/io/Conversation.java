@@ -0,0 +1,65 @@
+package aurora.io;
+
+import java.util.List;
+
+/**
+ * Represents the messages of a conversation, keeping only the latest messages up to a scrollback limit.
+ * The messages are held in the list backing the conversation view, which renders only the visible ones,
+ * so a long session costs memory bounded by the limit rather than a scene graph node per message.
+ */
+public class Conversation {
+
+    private final List<Message> messages;
+    private final int scrollbackLimit;
+
+    /**
+     * Constructor for a conversation.
+     *
+     * @param messages the list to hold the messages in, such as the items of a ListView.
+     * @param scrollbackLimit the most messages to keep, after which the oldest are evicted.
+     */
+    public Conversation(List<Message> messages, int scrollbackLimit) {
+
+        assert(messages != null) : "messages is null.";
+        assert(scrollbackLimit > 0) : "scrollbackLimit is not positive.";
+
+        this.messages = messages;
+        this.scrollbackLimit = scrollbackLimit;
+    }
+
+    /**
+     * Adds a message to the end of the conversation, evicting the oldest messages past the scrollback limit.
+     *
+     * @param message the message to add.
+     */
+    public void add(Message message) {
+
+        assert(message != null) : "message is null.";
+
+        messages.add(message);
+
+        // Evicted as one range so an observable list notifies its view once
+        int excess = messages.size() - scrollbackLimit;
+        if (excess > 0) {
+            messages.subList(0, excess).clear();
+        }
+    }
+
+    /**
+     * Gets the number of messages kept.
+     *
+     * @return the number of messages kept.
+     */
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the scrollback limit.
+     *
+     * @return the most messages kept.
+     */
+    public int getScrollbackLimit() {
+        return scrollbackLimit;
+    }
+}
@@ -0,0 +1,101 @@
+package aurora.io;
+
+import java.util.List;
+
+import aurora.task.Task;
+
+/**
+ * Represents storage that writes nothing, for commands whose changes are persisted together afterwards.
+ * It reports being journaled so that commands take their cheapest path, a journal record, which is dropped.
+ */
+public class DeferredStorage extends Storage {
+
+    /**
+     * Constructs a new DeferredStorage.
+     */
+    public DeferredStorage() {
+        super();
+    }
+
+    /**
+     * Checks if mutations are recorded in the journal, which is always the case so no command rewrites a file.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isJournaled() {
+        return true;
+    }
+
+    /**
+     * Does nothing, as nothing is written.
+     */
+    @Override
+    public void flush() {
+        return;
+    }
+
+    /**
+     * Drops the tasks, as nothing is written.
+     *
+     * @param tasks the tasks.
+     * @param nextTaskId the lowest task ID not yet given out.
+     */
+    @Override
+    public void overwriteTaskListFile(List<Task> tasks, long nextTaskId) {
+        return;
+    }
+
+    /**
+     * Drops the tasks, as nothing is written.
+     *
+     * @param tasks the tasks.
+     */
+    @Override
+    public void appendTaskListFile(List<Task> tasks) {
+        return;
+    }
+
+    /**
+     * Drops the record, as nothing is written.
+     *
+     * @param operation the operation of the record.
+     * @param argument the argument of the operation.
+     */
+    @Override
+    public void appendJournalRecord(String operation, String argument) {
+        return;
+    }
+
+    /**
+     * Drops the records, as nothing is written.
+     *
+     * @param operation the operation of the records.
+     * @param arguments the argument of each record.
+     */
+    @Override
+    public void appendJournalRecords(String operation, List<String> arguments) {
+        return;
+    }
+
+    /**
+     * Checks if the journal should be compacted, which it never should as nothing is written.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean needsCompaction() {
+        return false;
+    }
+
+    /**
+     * Does nothing, as nothing is written.
+     *
+     * @param tasks the tasks.
+     * @param nextTaskId the lowest task ID not yet given out.
+     */
+    @Override
+    public void compactJournal(List<Task> tasks, long nextTaskId) {
+        return;
+    }
+}
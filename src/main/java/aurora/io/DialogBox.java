@@ -1,14 +1,7 @@
 package aurora.io;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -17,12 +10,41 @@ import javafx.scene.layout.HBox;
 /**
  * Represents a dialog box consisting of an ImageView to represent the speaker's face
  * and a label containing text from the speaker.
+ * The dialog box is built in code rather than loaded from FXML, as one is made for every message.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+
+    private static final double PREF_WIDTH = 400.0;
+    private static final double PICTURE_SIZE = 99.0;
+    private static final Insets PADDING = new Insets(15.0, 5.0, 15.0, 5.0);
+
+    private final Label dialog = new Label();
+    private final ImageView displayPicture = new ImageView();
+
+    // Whether the ImageView is on the left
+    private boolean isFlipped = false;
+
+    /**
+     * Constructor for an empty dialog box.
+     */
+    private DialogBox() {
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Double.MAX_VALUE);
+        setPrefWidth(PREF_WIDTH);
+        setPadding(PADDING);
+
+        // The label grows to fit its wrapped text rather than being cut off
+        dialog.setWrapText(true);
+        dialog.setMinHeight(USE_PREF_SIZE);
+
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+
+        getChildren().setAll(dialog, displayPicture);
+    }
 
     /**
      * Constructor for a dialog box.
@@ -31,31 +53,58 @@ public class DialogBox extends HBox {
      * @param img the user profile image of the sender of the message.
      */
     private DialogBox(String text, Image img) {
+        this();
 
         assert(text != null) : "Text is null.";
         assert(img != null) : "Image is null.";
 
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(Ui.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
+        dialog.setText(text);
+        displayPicture.setImage(img);
+    }
+
+    /**
+     * Sets whether the dialog box is flipped, such that the ImageView is on the left and text on the right.
+     *
+     * @param isFlipped whether the ImageView is on the left.
+     */
+    private void setFlipped(boolean isFlipped) {
+        if (this.isFlipped == isFlipped) {
+            return;
+        }
+
+        if (isFlipped) {
+            getChildren().setAll(displayPicture, dialog);
+        } else {
+            getChildren().setAll(dialog, displayPicture);
         }
+        setAlignment(isFlipped ? Pos.TOP_LEFT : Pos.TOP_RIGHT);
+        this.isFlipped = isFlipped;
+    }
+
+    /**
+     * Shows another message in the dialog box, so that one dialog box can be reused across messages.
+     *
+     * @param text the message to be displayed in the dialog box.
+     * @param img the profile image of the sender of the message.
+     * @param isFromUser whether the message was sent by the user, which keeps the image on the right.
+     */
+    void setMessage(String text, Image img, boolean isFromUser) {
+
+        assert(text != null) : "Text is null.";
+        assert(img != null) : "Image is null.";
 
         dialog.setText(text);
         displayPicture.setImage(img);
+        setFlipped(!isFromUser);
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Creates an empty dialog box, to be filled by setting its message.
+     *
+     * @return an empty dialog box.
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+    static DialogBox getEmptyDialog() {
+        return new DialogBox();
     }
 
     /**
@@ -84,7 +133,7 @@ public class DialogBox extends HBox {
         assert(img != null) : "Image is null.";
 
         var db = new DialogBox(text, img);
-        db.flip();
+        db.setFlipped(true);
         return db;
     }
 }
@@ -0,0 +1,16 @@
+package aurora.io;
+
+/**
+ * Represents how soon a write to storage must reach the disk.
+ */
+public enum Durability {
+
+    /** Every write is flushed to disk before the command that made it completes. */
+    EVERY_OP,
+
+    /** Writes are grouped and flushed to disk at most once per commit interval. */
+    INTERVAL,
+
+    /** Writes are handed to the operating system and flushed to disk whenever it chooses. */
+    OS_BUFFERED
+}
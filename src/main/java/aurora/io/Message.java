@@ -0,0 +1,62 @@
+package aurora.io;
+
+/**
+ * Represents a message in the conversation, sent either by the user or by Aurora.
+ */
+public class Message {
+
+    private final String text;
+    private final boolean isFromUser;
+
+    /**
+     * Constructor for a message.
+     *
+     * @param text the text of the message.
+     * @param isFromUser whether the message was sent by the user.
+     */
+    private Message(String text, boolean isFromUser) {
+
+        assert(text != null) : "Text is null.";
+
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    /**
+     * Creates a message sent by the user.
+     *
+     * @param text the text of the message.
+     * @return the message.
+     */
+    public static Message fromUser(String text) {
+        return new Message(text, true);
+    }
+
+    /**
+     * Creates a message sent by Aurora.
+     *
+     * @param text the text of the message.
+     * @return the message.
+     */
+    public static Message fromAurora(String text) {
+        return new Message(text, false);
+    }
+
+    /**
+     * Gets the text of the message.
+     *
+     * @return the text of the message.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Checks if the message was sent by the user.
+     *
+     * @return true if the message was sent by the user, false if by Aurora.
+     */
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+}
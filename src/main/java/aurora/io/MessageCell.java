@@ -0,0 +1,71 @@
+package aurora.io;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Represents a cell of the conversation view, which shows whichever message it is currently scrolled to.
+ * Only as many cells as fit on screen are created, and each reuses one dialog box for every message it shows.
+ */
+public class MessageCell extends ListCell<Message> {
+
+    // Width left for the vertical scroll bar and the cell padding
+    private static final double SCROLL_BAR_ALLOWANCE = 20.0;
+    private static final String CELL_STYLE = "-fx-background-color: transparent; -fx-padding: 0;";
+
+    private final ListView<Message> listView;
+    private final Image userImage;
+    private final Image auroraImage;
+
+    // Created when the cell first shows a message
+    private DialogBox dialogBox = null;
+
+    /**
+     * Constructor for a message cell.
+     *
+     * @param listView the conversation view the cell belongs to.
+     * @param userImage the user profile image.
+     * @param auroraImage the chatbot's profile image.
+     */
+    public MessageCell(ListView<Message> listView, Image userImage, Image auroraImage) {
+
+        assert(listView != null) : "listView is null.";
+        assert(userImage != null) : "userImage is null.";
+        assert(auroraImage != null) : "auroraImage is null.";
+
+        this.listView = listView;
+        this.userImage = userImage;
+        this.auroraImage = auroraImage;
+
+        // The cell is sized by its list rather than by its text, and messages are not selectable
+        setPrefWidth(0);
+        setStyle(CELL_STYLE);
+        setMouseTransparent(true);
+    }
+
+    /**
+     * Shows a message in the cell, or nothing if the cell is empty.
+     *
+     * @param message the message to show.
+     * @param isEmpty whether the cell holds no message.
+     */
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+
+        if (dialogBox == null) {
+            dialogBox = DialogBox.getEmptyDialog();
+            dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        }
+
+        dialogBox.setMessage(message.getText(), message.isFromUser() ? userImage : auroraImage,
+                message.isFromUser());
+        setGraphic(dialogBox);
+    }
+}
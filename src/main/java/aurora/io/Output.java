@@ -0,0 +1,63 @@
+package aurora.io;
+
+/**
+ * Represents where Aurora shows its messages to the user, such as the JavaFX window or the console.
+ * Commands print through the singleton, so they run the same whichever front end is in use.
+ */
+public interface Output {
+
+    /**
+     * Returns the singleton instance of Output, or one that displays nothing while output is muted.
+     *
+     * @return the singleton instance of Output.
+     */
+    static Output getSingleton() {
+        return OutputHolder.isMuted ? OutputHolder.MUTED : OutputHolder.singleton;
+    }
+
+    /**
+     * Injects the Output instance.
+     *
+     * @param output The Output instance to be injected.
+     */
+    static void setSingleton(Output output) {
+        if (OutputHolder.isSingletonSet) {
+            return;
+        }
+        OutputHolder.singleton = output;
+        OutputHolder.isSingletonSet = true;
+    }
+
+    /**
+     * Sets whether messages are dropped instead of displayed, such as while commands run from a file.
+     *
+     * @param isMuted whether messages are dropped.
+     */
+    static void setMuted(boolean isMuted) {
+        OutputHolder.isMuted = isMuted;
+    }
+
+    /**
+     * Displays the message.
+     * May be called from any thread, and messages are displayed in the order printed.
+     *
+     * @param msg the message to be displayed.
+     */
+    void printMsg(String msg);
+
+    /**
+     * Shows or hides that the task list is loading, if the front end shows it at all.
+     * May be called from any thread.
+     *
+     * @param isLoading whether the task list is loading.
+     */
+    default void setLoading(boolean isLoading) {
+        return;
+    }
+
+    /**
+     * Closes Aurora once every message printed before has been displayed.
+     * May be called from any thread.
+     */
+    void close();
+}
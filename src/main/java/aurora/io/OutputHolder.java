@@ -0,0 +1,31 @@
+package aurora.io;
+
+/**
+ * Holds the Output singleton, as an interface cannot hold state of its own.
+ */
+final class OutputHolder {
+
+    // Displays nothing, for while output is muted
+    static final Output MUTED = new Output() {
+        @Override
+        public void printMsg(String msg) {
+            return;
+        }
+
+        @Override
+        public void close() {
+            return;
+        }
+    };
+
+    // The singleton instance
+    static Output singleton = null;
+    static boolean isSingletonSet = false;
+    static volatile boolean isMuted = false;
+
+    /**
+     * Prevents instantiation.
+     */
+    private OutputHolder() {
+    }
+}
@@ -0,0 +1,195 @@
+package aurora.io;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import aurora.task.Deadline;
+import aurora.task.DoWithinPeriod;
+import aurora.task.Event;
+import aurora.task.Task;
+import aurora.util.DateTimeUtil;
+import aurora.util.TimingWheel;
+
+/**
+ * Represents the reminders shown shortly before a deadline is due or an event or period starts.
+ * Every task not yet done with a date in the future has a timer in a hashed timing wheel, which is kept up to
+ * date as tasks are added, deleted, marked and unmarked, so scheduling or cancelling a reminder takes O(1)
+ * expected time. A single daemon thread advances the wheel once a minute and only visits the timers in one
+ * slot, so the task list is never polled however many reminders are scheduled.
+ */
+public class Reminders {
+
+    public static final long DEFAULT_LEAD_MINUTES = 60;
+
+    // One slot per minute, so a rotation of the wheel covers a little under three days
+    private static final int SLOT_COUNT = 4096;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    private static final String REMINDER_MSG = "Reminder, coming up soon:";
+
+    // The singleton instance
+    private static final Reminders SINGLETON = new Reminders();
+
+    // The timers, guarded by the lock, or null until the reminders are started
+    private final Object lock = new Object();
+    private TimingWheel<Task> wheel = null;
+    private long leadMinutes = DEFAULT_LEAD_MINUTES;
+
+    /**
+     * Constructs the Reminders singleton.
+     */
+    private Reminders() {
+    }
+
+    /**
+     * Returns the singleton instance of Reminders.
+     *
+     * @return the singleton instance of Reminders.
+     */
+    public static Reminders of() {
+        return SINGLETON;
+    }
+
+    /**
+     * Schedules a reminder for every task and starts the thread that shows them.
+     * Until started, scheduling and cancelling reminders does nothing.
+     *
+     * @param tasks the tasks in the task list once loaded.
+     * @param leadMinutes how many minutes before its date a task is reminded of.
+     */
+    public void start(List<Task> tasks, long leadMinutes) {
+
+        assert(tasks != null) : "tasks is null.";
+        assert(leadMinutes >= 0) : "leadMinutes is negative.";
+
+        synchronized (lock) {
+            if (wheel != null) {
+                return;
+            }
+
+            this.leadMinutes = leadMinutes;
+            wheel = new TimingWheel<>(SLOT_COUNT, getCurrentMinute());
+            for (Task task : tasks) {
+                schedule(task);
+            }
+        }
+
+        Thread tickerThread = new Thread(this::runTicker, "aurora-reminders");
+        tickerThread.setDaemon(true);
+        tickerThread.start();
+    }
+
+    /**
+     * Schedules a reminder for a task, replacing any reminder it already has.
+     * A task that is done, has no date or has a date in the past has its reminder cancelled instead, and a task
+     * that is already within the lead time of its date is reminded of at the next minute.
+     *
+     * @param task the task.
+     */
+    public void schedule(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+
+            LocalDateTime date = getReminderDate(task);
+            if (task.isDone() || date == null || DateTimeUtil.toEpochMinute(date) <= wheel.getCurrentTick()) {
+                wheel.cancel(task.getId());
+                return;
+            }
+
+            wheel.schedule(task.getId(), DateTimeUtil.toEpochMinute(date) - leadMinutes, task);
+        }
+    }
+
+    /**
+     * Cancels the reminder of a task, if it has one.
+     *
+     * @param task the task.
+     */
+    public void cancel(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        synchronized (lock) {
+            if (wheel != null) {
+                wheel.cancel(task.getId());
+            }
+        }
+    }
+
+    /**
+     * Advances the wheel at the start of every minute and shows the reminders that are due, until interrupted.
+     */
+    private void runTicker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(MILLIS_PER_MINUTE - System.currentTimeMillis() % MILLIS_PER_MINUTE);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            List<Task> dueTasks = new ArrayList<>();
+            synchronized (lock) {
+                wheel.advance(getCurrentMinute(), dueTasks);
+            }
+            showReminders(dueTasks);
+        }
+    }
+
+    /**
+     * Shows the reminders that are due in a single message.
+     * Reminders are shown even while command output is muted, as they are not the output of a command.
+     *
+     * @param dueTasks the tasks that are due to be reminded of.
+     */
+    private void showReminders(List<Task> dueTasks) {
+        StringBuilder message = new StringBuilder(REMINDER_MSG);
+        boolean hasReminder = false;
+
+        for (Task task : dueTasks) {
+            // A task marked while its reminder was being taken off the wheel is no longer reminded of
+            if (task.isDone()) {
+                continue;
+            }
+            message.append("\n#").append(task.getId()).append(" ").append(task);
+            hasReminder = true;
+        }
+
+        Output output = OutputHolder.singleton;
+        if (hasReminder && output != null) {
+            output.printMsg(message.toString());
+        }
+    }
+
+    /**
+     * Gets the date a task is reminded of: when a deadline is due, or when an event or period starts.
+     *
+     * @param task the task.
+     * @return the date, or null if the task has no dates.
+     */
+    private static LocalDateTime getReminderDate(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getStartDate();
+        } else if (task instanceof DoWithinPeriod) {
+            return ((DoWithinPeriod) task).getStartPeriodDate();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the current minute, in the same time scale as the dates of tasks.
+     *
+     * @return the number of minutes since 1/1/1970 0000 on the local clock.
+     */
+    private static long getCurrentMinute() {
+        return DateTimeUtil.toEpochMinute(LocalDateTime.now());
+    }
+}
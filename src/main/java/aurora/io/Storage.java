@@ -1,19 +1,44 @@
 package aurora.io;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import aurora.exception.AuroraException;
+import aurora.task.Task;
 
 /**
  * Represents the storage of the task list data.
+ * The task list is stored in a compact binary file, see {@link BinaryTaskFormat}. A task list file in the
+ * legacy text format is read once and upgraded to the binary format on disk.
+ * In journaled mode, every mutation is appended as a small record to a journal file instead of
+ * rewriting the whole task list file. The journal is folded back into the task list file in the
+ * background once it grows past a size threshold.
+ * Writes are queued to a {@link WriteBehindWriter} so that commands do not wait on the disk, unless
+ * the durability level requires it.
  */
 public class Storage {
 
+    // Journal record operations
+    public static final String JOURNAL_ADD = "ADD";
+    public static final String JOURNAL_DELETE = "DELETE";
+    public static final String JOURNAL_MARK = "MARK";
+    public static final String JOURNAL_UNMARK = "UNMARK";
+    public static final String JOURNAL_RESTORE = "RESTORE";
+
     // Exception messages
     private static final String FILE_CREATE_FAIL =
             "File could not be created.";
@@ -22,19 +47,70 @@ public class Storage {
     private static final String FILE_WRITE_FAIL =
             "File could not be written to.";
 
-    // The persistent storage file
-    private static Path taskListFile = null;
+    // File names
+    private static final String TASK_LIST_FILE_NAME = "taskList.bin";
+    private static final String LEGACY_TASK_LIST_FILE_NAME = "taskList.txt";
+    private static final String LEGACY_BACKUP_SUFFIX = ".bak";
+    private static final String JOURNAL_FILE_NAME = "taskList.journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // Journal format
+    private static final String JOURNAL_SEPARATOR = " | ";
+    private static final String CHECKPOINT_PREFIX = "# ";
+    private static final long COMPACTION_THRESHOLD_BYTES = 256 * 1024;
+
+    // Default write-behind settings
+    private static final Durability DEFAULT_DURABILITY = Durability.INTERVAL;
+    private static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 100;
+
+    // File access tuning
+    private static final int READ_WINDOW_BYTES = 64 * 1024 * 1024;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
 
     // The singleton instance
     private static final Storage SINGLETON = new Storage();
 
+    // The persistent storage files
+    private final Path dataDirectory;
+    private Path taskListFile = null;
+    private Path legacyTaskListFile = null;
+    private Path journalFile = null;
+
+    // Journal state
+    private final Object journalLock = new Object();
+    private final AtomicLong journalSize = new AtomicLong();
+    private boolean isJournaled = true;
+    private volatile boolean isCompacting = false;
+    private long checkpointSeq = 0;
+    private boolean isTaskListFileOutdated = false;
+    private long nextJournalSeq = 1;
+
+    // Write-behind state
+    private WriteBehindWriter writer = null;
+    private volatile Durability durability = DEFAULT_DURABILITY;
+    private long commitIntervalMillis = DEFAULT_COMMIT_INTERVAL_MILLIS;
+
     /**
-     * Constructs a new Parser.
+     * Constructs a new Storage in the default data directory.
      */
-    protected Storage() {}
+    protected Storage() {
+        this(Paths.get("./", "data"));
+    }
 
     /**
-     * Gets the singleton instance of the parser.
+     * Constructs a new Storage in the given data directory.
+     *
+     * @param dataDirectory the directory holding the task list files.
+     */
+    protected Storage(Path dataDirectory) {
+
+        assert(dataDirectory != null) : "dataDirectory is null.";
+
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Gets the singleton instance of the storage.
      *
      * @return SINGLETON the singleton instance.
      */
@@ -43,25 +119,85 @@ public class Storage {
     }
 
     /**
-     * Creates the task list file if one does not exist.
+     * Checks if mutations are recorded in the journal instead of rewriting the task list file.
+     *
+     * @return true if storage is in journaled mode.
+     */
+    public boolean isJournaled() {
+        return isJournaled;
+    }
+
+    /**
+     * Sets whether mutations are recorded in the journal instead of rewriting the task list file.
+     *
+     * @param isJournaled true to enable journaled mode.
+     */
+    public void setJournaled(boolean isJournaled) {
+        this.isJournaled = isJournaled;
+    }
+
+    /**
+     * Sets how soon writes must reach the disk.
+     *
+     * @param durability the durability level.
+     * @param commitIntervalMillis the commit interval for {@link Durability#INTERVAL}.
+     */
+    public void setDurability(Durability durability, long commitIntervalMillis) {
+
+        assert(durability != null) : "durability is null.";
+        assert(commitIntervalMillis >= 0) : "commitIntervalMillis is negative.";
+
+        this.durability = durability;
+        this.commitIntervalMillis = commitIntervalMillis;
+
+        if (writer != null) {
+            writer.setDurability(durability, commitIntervalMillis);
+        }
+    }
+
+    /**
+     * Blocks until every queued write is done and flushed to disk.
+     *
+     * @throws AuroraException if a queued write failed.
+     */
+    public void flush() throws AuroraException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Creates the task list file and its journal if they do not exist.
+     * A legacy text task list file is left in place until it is migrated.
      * Storage now references the task list file internally.
      *
      * @throws AuroraException if file could not be created.
      */
     public void generateTaskListFile() throws AuroraException {
-        Path taskListPath = Paths.get("./", "data", "taskList.txt");
-        Path directory = taskListPath.getParent();
+        Path taskListPath = dataDirectory.resolve(TASK_LIST_FILE_NAME);
+        Path legacyTaskListPath = dataDirectory.resolve(LEGACY_TASK_LIST_FILE_NAME);
+        Path journalPath = dataDirectory.resolve(JOURNAL_FILE_NAME);
 
         try {
-            if (!Files.exists(directory)) {
-                Files.createDirectory(taskListPath.getParent());
+            if (!Files.exists(dataDirectory)) {
+                Files.createDirectories(dataDirectory);
             }
 
-            if (!Files.exists(taskListPath)) {
-                Files.createFile(taskListPath);
+            taskListFile = taskListPath;
+            legacyTaskListFile = legacyTaskListPath;
+            journalFile = journalPath;
+
+            if (!Files.exists(taskListPath) && !Files.exists(legacyTaskListPath)) {
+                writeSnapshot(0, List.of(), Task.NO_ID + 1);
             }
 
-            taskListFile = taskListPath;
+            if (!Files.exists(journalPath)) {
+                Files.createFile(journalPath);
+            }
+
+            if (writer == null) {
+                writer = new WriteBehindWriter(journalPath, durability, commitIntervalMillis);
+            }
 
         } catch (IOException e) {
             throw new AuroraException(FILE_CREATE_FAIL);
@@ -69,47 +205,500 @@ public class Storage {
     }
 
     /**
-     * Loads the task list data from the file.
+     * Checks if the task list is still stored in the legacy text format and needs to be migrated.
      *
-     * @return lines the lines of the task list data.
+     * @return true if only a legacy text task list file exists.
+     */
+    public boolean hasLegacyTaskListFile() {
+        return !Files.exists(taskListFile) && Files.exists(legacyTaskListFile);
+    }
+
+    /**
+     * Streams the tasks from the binary task list file one task at a time.
+     * The file is read one window at a time into a single reused buffer and each task is decoded straight
+     * from it, so the whole file is never held on the heap at once. The file is not memory-mapped, as a live
+     * mapping would stop the file from being replaced on some platforms until it is garbage collected.
+     * A torn record at the end of the file is ignored.
+     * Tasks read from a file of an older version without task IDs have no ID.
+     *
+     * @param taskConsumer the consumer to receive each task, in order.
+     * @return the lowest task ID not yet given out when the file was written, or NO_ID if unknown.
      * @throws AuroraException if file could not be read.
      */
-    public List<String> loadTaskListData() throws AuroraException {
-        List<String> lines;
-        try {
-            lines = Files.readAllLines(taskListFile);
+    public long streamTaskListData(Consumer<Task> taskConsumer) throws AuroraException {
+
+        assert(taskConsumer != null) : "taskConsumer is null.";
+
+        try (FileChannel channel = FileChannel.open(taskListFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+            byte[] scratch = new byte[256];
+            BinaryTaskFormat.Header header = null;
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_WINDOW_BYTES, fileSize));
+
+            while (position < fileSize) {
+                int regionSize = (int) Math.min(READ_WINDOW_BYTES, fileSize - position);
+                readWindow(channel, buffer, position, regionSize);
+                boolean isLastRegion = position + regionSize == fileSize;
+
+                if (position == 0) {
+                    header = BinaryTaskFormat.readHeader(buffer);
+                    checkpointSeq = header.getCheckpointSeq();
+                    isTaskListFileOutdated = header.getVersion() != BinaryTaskFormat.VERSION;
+                }
+
+                int recordLength = BinaryTaskFormat.peekRecordLength(buffer, header.getVersion());
+                while (recordLength >= 0 && recordLength <= buffer.remaining()) {
+                    if (recordLength > scratch.length) {
+                        scratch = new byte[Math.max(recordLength, scratch.length * 2)];
+                    }
+
+                    taskConsumer.accept(BinaryTaskFormat.readTask(buffer, scratch, header.getVersion()));
+                    recordLength = BinaryTaskFormat.peekRecordLength(buffer, header.getVersion());
+                }
+
+                if (isLastRegion) {
+                    break;
+                }
+
+                // A single record longer than the read window cannot be a valid task
+                if (buffer.position() == 0) {
+                    throw new AuroraException(FILE_READ_FAIL);
+                }
+
+                // Read on from the start of the incomplete record
+                position += buffer.position();
+            }
+
+            return header == null ? Task.NO_ID : header.getNextTaskId();
         } catch (IOException e) {
             throw new AuroraException(FILE_READ_FAIL);
         }
+    }
 
-        return lines;
+    /**
+     * Checks if the task list file last streamed is of an older binary version and needs to be rewritten
+     * before anything is appended to it.
+     *
+     * @return true if the file is of an older version.
+     */
+    public boolean isTaskListFileOutdated() {
+        return isTaskListFileOutdated;
     }
 
     /**
-     * Overwrites the task list file with new lines of data.
+     * Streams the task list data from the legacy text file one line at a time.
+     * The file is read one window at a time into a single reused buffer and each line is decoded straight
+     * from it, so the whole file is never held on the heap at once.
+     * The checkpoint line written by journal compaction is consumed and not passed on.
      *
-     * @param lines the lines to overwrite the file with.
-     * @throws AuroraException if file could not be written to.
+     * @param lineConsumer the consumer to receive each line of the task list data, in order.
+     * @throws AuroraException if file could not be read.
      */
-    public void overwriteTaskListFile(List<String> lines) throws AuroraException {
-        try {
-            Files.write(taskListFile, lines);
+    public void streamLegacyTaskListData(Consumer<String> lineConsumer) throws AuroraException {
+
+        assert(lineConsumer != null) : "lineConsumer is null.";
+
+        checkpointSeq = 0;
+        boolean[] isFirstLine = {true};
+        Consumer<String> checkpointFilter = line -> {
+            if (isFirstLine[0] && line.startsWith(CHECKPOINT_PREFIX)) {
+                checkpointSeq = Long.parseLong(line.substring(CHECKPOINT_PREFIX.length()).trim());
+            } else {
+                lineConsumer.accept(line);
+            }
+            isFirstLine[0] = false;
+        };
+
+        try (FileChannel channel = FileChannel.open(legacyTaskListFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long position = 0;
+            byte[] lineBytes = new byte[256];
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_WINDOW_BYTES, fileSize));
+
+            while (position < fileSize) {
+                int regionSize = (int) Math.min(READ_WINDOW_BYTES, fileSize - position);
+                readWindow(channel, buffer, position, regionSize);
+                boolean isLastRegion = position + regionSize == fileSize;
+                int lineStart = 0;
+
+                for (int i = 0; i < regionSize; i++) {
+                    if (buffer.get(i) == '\n') {
+                        lineBytes = decodeLine(buffer, lineStart, i, lineBytes, checkpointFilter);
+                        lineStart = i + 1;
+                    }
+                }
+
+                if (isLastRegion) {
+                    if (lineStart < regionSize) {
+                        decodeLine(buffer, lineStart, regionSize, lineBytes, checkpointFilter);
+                    }
+                    break;
+                }
+
+                // A single line longer than the read window cannot be a valid task
+                if (lineStart == 0) {
+                    throw new AuroraException(FILE_READ_FAIL);
+                }
+
+                // Read on from the start of the incomplete line
+                position += lineStart;
+            }
         } catch (IOException e) {
-            throw new AuroraException(FILE_WRITE_FAIL);
+            throw new AuroraException(FILE_READ_FAIL);
+        }
+    }
+
+    /**
+     * Reads a window of the file into the buffer, which is left holding exactly the window from position 0.
+     *
+     * @param channel the channel to read from.
+     * @param buffer the buffer to read into, at least as large as the window.
+     * @param position the position in the file at which the window starts.
+     * @param size the size of the window, which must not run past the end of the file.
+     * @throws IOException if the file could not be read or ended early.
+     */
+    private void readWindow(FileChannel channel, ByteBuffer buffer, long position, int size) throws IOException {
+        buffer.clear();
+        buffer.limit(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(FILE_READ_FAIL);
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Decodes the UTF-8 line between start and end in the buffer and passes it to the consumer.
+     * A trailing carriage return is dropped.
+     *
+     * @param buffer the buffer holding the line.
+     * @param start the index of the first byte of the line.
+     * @param end the index after the last byte of the line.
+     * @param lineBytes the scratch array to copy the line into.
+     * @param lineConsumer the consumer to receive the line.
+     * @return the scratch array, grown if the line did not fit.
+     */
+    private byte[] decodeLine(ByteBuffer buffer, int start, int end, byte[] lineBytes,
+            Consumer<String> lineConsumer) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+
+        int length = end - start;
+        if (length > lineBytes.length) {
+            lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+        }
+
+        buffer.get(start, lineBytes, 0, length);
+        lineConsumer.accept(new String(lineBytes, 0, length, StandardCharsets.UTF_8));
+        return lineBytes;
+    }
+
+    /**
+     * Loads the journal records that have not yet been folded into the task list file.
+     * Must be called after the task list file is streamed so that the checkpoint is known.
+     *
+     * @return records the journal records in the form "OPERATION | argument", oldest first.
+     * @throws AuroraException if file could not be read.
+     */
+    public List<String> loadJournalData() throws AuroraException {
+        List<String> records = new ArrayList<>();
+
+        synchronized (journalLock) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(journalFile);
+                journalSize.set(Files.size(journalFile));
+            } catch (IOException e) {
+                throw new AuroraException(FILE_READ_FAIL);
+            }
+
+            nextJournalSeq = checkpointSeq + 1;
+            for (String line : lines) {
+                int separatorIndex = line.indexOf(JOURNAL_SEPARATOR);
+                long seq = parseJournalSeq(line, separatorIndex);
+
+                // Skip torn writes and records already folded into the task list file
+                if (seq <= checkpointSeq) {
+                    continue;
+                }
+
+                records.add(line.substring(separatorIndex + JOURNAL_SEPARATOR.length()));
+                nextJournalSeq = Math.max(nextJournalSeq, seq + 1);
+            }
         }
+
+        return records;
+    }
+
+    /**
+     * Overwrites the task list file with new task data.
+     * The tasks must reflect every journal record appended so far, and must not be modified afterwards.
+     *
+     * @param tasks the tasks to overwrite the file with.
+     * @param nextTaskId the lowest task ID not yet given out.
+     * @throws AuroraException if this or an earlier queued write failed.
+     */
+    public void overwriteTaskListFile(List<Task> tasks, long nextTaskId) throws AuroraException {
+
+        assert(tasks != null) : "tasks is null.";
+
+        long coveredSeq = getLastJournalSeq();
+        isTaskListFileOutdated = false;
+        writer.submit(() -> writeSnapshot(coveredSeq, tasks, nextTaskId));
     }
 
     /**
-     * Appends new lines of data to the task list file.
+     * Appends new task data to the task list file.
      *
-     * @param lines the lines to append to the file.
-     * @throws AuroraException if file could not be written to.
+     * @param tasks the tasks to append to the file, which must not be modified afterwards.
+     * @throws AuroraException if this or an earlier queued write failed.
      */
-    public void appendTaskListFile(List<String> lines) throws AuroraException {
+    public void appendTaskListFile(List<Task> tasks) throws AuroraException {
+
+        assert(tasks != null) : "tasks is null.";
+
+        writer.submit(() -> {
+            try (FileChannel channel = FileChannel.open(taskListFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                writeTasks(channel, tasks);
+            }
+        });
+    }
+
+    /**
+     * Upgrades the legacy text task list file to the binary format on disk.
+     * The tasks must reflect the legacy file with every journal record replayed on top of it.
+     * The legacy file is kept as a backup.
+     *
+     * @param tasks the tasks loaded from the legacy file.
+     * @param nextTaskId the lowest task ID not yet given out.
+     * @throws AuroraException if the binary file could not be written.
+     */
+    public void migrateLegacyTaskListFile(List<Task> tasks, long nextTaskId) throws AuroraException {
+
+        assert(tasks != null) : "tasks is null.";
+
         try {
-            Files.write(taskListFile, lines, StandardOpenOption.APPEND);
+            long coveredSeq = getLastJournalSeq();
+            writeSnapshot(coveredSeq, tasks, nextTaskId);
+            truncateJournal(coveredSeq);
+            Files.move(legacyTaskListFile, legacyTaskListFile.resolveSibling(
+                    LEGACY_TASK_LIST_FILE_NAME + LEGACY_BACKUP_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             throw new AuroraException(FILE_WRITE_FAIL);
         }
     }
+
+    /**
+     * Appends a single mutation record to the journal.
+     *
+     * @param operation the operation of the record, one of the JOURNAL_ constants.
+     * @param argument the argument of the operation.
+     * @throws AuroraException if the journal could not be written to.
+     */
+    public void appendJournalRecord(String operation, String argument) throws AuroraException {
+
+        assert(operation != null) : "operation is null.";
+        assert(argument != null) : "argument is null.";
+
+        // Records are queued under the lock so that they reach the writer in sequence order
+        synchronized (journalLock) {
+            String record = nextJournalSeq + JOURNAL_SEPARATOR + operation + JOURNAL_SEPARATOR + argument
+                    + System.lineSeparator();
+            byte[] recordBytes = record.getBytes(StandardCharsets.UTF_8);
+
+            writer.append(recordBytes);
+            nextJournalSeq++;
+            journalSize.addAndGet(recordBytes.length);
+        }
+    }
+
+    /**
+     * Appends a batch of mutation records sharing an operation to the journal as a single write,
+     * so that a bulk mutation costs one commit however many tasks it touches.
+     *
+     * @param operation the operation of the records, one of the JOURNAL_ constants.
+     * @param arguments the argument of each record, in order.
+     * @throws AuroraException if the journal could not be written to.
+     */
+    public void appendJournalRecords(String operation, List<String> arguments) throws AuroraException {
+
+        assert(operation != null) : "operation is null.";
+        assert(arguments != null) : "arguments is null.";
+
+        if (arguments.isEmpty()) {
+            return;
+        }
+
+        synchronized (journalLock) {
+            StringBuilder records = new StringBuilder();
+            for (String argument : arguments) {
+                records.append(nextJournalSeq).append(JOURNAL_SEPARATOR).append(operation)
+                        .append(JOURNAL_SEPARATOR).append(argument).append(System.lineSeparator());
+                nextJournalSeq++;
+            }
+            byte[] recordBytes = records.toString().getBytes(StandardCharsets.UTF_8);
+
+            writer.append(recordBytes);
+            journalSize.addAndGet(recordBytes.length);
+        }
+    }
+
+    /**
+     * Checks if the journal has grown past the compaction threshold and is not already being compacted.
+     *
+     * @return true if the journal should be compacted.
+     */
+    public boolean needsCompaction() {
+        return !isCompacting && journalSize.get() >= COMPACTION_THRESHOLD_BYTES;
+    }
+
+    /**
+     * Folds the journal into a fresh task list file in the background.
+     * The snapshot is written on the writer thread, in order with every other write to the task list file and
+     * the journal, so a snapshot queued later is never replaced by this one. The caller does not wait for it
+     * whatever the durability level.
+     * The tasks must reflect every journal record appended so far. Tasks marked or unmarked after
+     * this call may or may not be reflected in the file, which is harmless as marking is replayed
+     * idempotently from the journal.
+     *
+     * @param tasks a snapshot of the current task list.
+     * @param nextTaskId the lowest task ID not yet given out.
+     */
+    public void compactJournal(List<Task> tasks, long nextTaskId) {
+
+        assert(tasks != null) : "tasks is null.";
+
+        long coveredSeq = getLastJournalSeq();
+
+        isCompacting = true;
+        boolean isQueued = writer.submitWithoutWaiting(() -> {
+            try {
+                writeSnapshot(coveredSeq, tasks, nextTaskId);
+                truncateJournal(coveredSeq);
+            } catch (IOException e) {
+                // The journal is left intact and compaction is retried once the threshold is passed again
+            } finally {
+                isCompacting = false;
+            }
+        });
+
+        if (!isQueued) {
+            isCompacting = false;
+        }
+    }
+
+    /**
+     * Gets the sequence number of the last journal record appended.
+     *
+     * @return the last sequence number, or the checkpoint if nothing was appended since loading.
+     */
+    private long getLastJournalSeq() {
+        synchronized (journalLock) {
+            return nextJournalSeq - 1;
+        }
+    }
+
+    /**
+     * Atomically replaces the task list file with a snapshot covering journal records up to coveredSeq.
+     *
+     * @param coveredSeq the sequence number of the last journal record reflected in the snapshot.
+     * @param tasks the tasks in the snapshot.
+     * @param nextTaskId the lowest task ID not yet given out.
+     * @throws IOException if the snapshot could not be written.
+     */
+    private void writeSnapshot(long coveredSeq, List<Task> tasks, long nextTaskId) throws IOException {
+        Path tempFile = taskListFile.resolveSibling(TASK_LIST_FILE_NAME + TEMP_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Channels.newOutputStream(channel), WRITE_BUFFER_BYTES));
+            BinaryTaskFormat.writeHeader(out, coveredSeq, nextTaskId);
+            out.flush();
+            writeTasks(channel, tasks);
+        }
+
+        Files.move(tempFile, taskListFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes tasks at the channel's position and flushes them to disk if the durability level requires.
+     *
+     * @param channel the channel to write to.
+     * @param tasks the tasks to write.
+     * @throws IOException if unable to write.
+     */
+    private void writeTasks(FileChannel channel, List<Task> tasks) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Channels.newOutputStream(channel), WRITE_BUFFER_BYTES));
+        for (Task task : tasks) {
+            BinaryTaskFormat.writeTask(out, task);
+        }
+        out.flush();
+
+        if (durability != Durability.OS_BUFFERED) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Drops the journal records up to coveredSeq, which are now part of the task list file.
+     *
+     * @param coveredSeq the sequence number of the last journal record to drop.
+     * @throws IOException if the journal could not be rewritten.
+     */
+    private void truncateJournal(long coveredSeq) throws IOException {
+        List<String> remaining = new ArrayList<>();
+        long remainingSize = 0;
+
+        for (String line : Files.readAllLines(journalFile)) {
+            if (parseJournalSeq(line, line.indexOf(JOURNAL_SEPARATOR)) > coveredSeq) {
+                remaining.add(line);
+                remainingSize += (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+
+        // The remaining records are on disk before the rename, so the journal never loses acknowledged records
+        Path tempFile = journalFile.resolveSibling(JOURNAL_FILE_NAME + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder records = new StringBuilder();
+            for (String line : remaining) {
+                records.append(line).append(System.lineSeparator());
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            if (durability != Durability.OS_BUFFERED) {
+                channel.force(false);
+            }
+        }
+        Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journalSize.set(remainingSize);
+    }
+
+    /**
+     * Parses the sequence number at the start of a journal record.
+     *
+     * @param line the journal record.
+     * @param separatorIndex the index of the first separator in the record.
+     * @return the sequence number, or -1 if the record is malformed.
+     */
+    private long parseJournalSeq(String line, int separatorIndex) {
+        if (separatorIndex <= 0) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(line.substring(0, separatorIndex));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
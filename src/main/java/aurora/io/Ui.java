@@ -3,68 +3,61 @@ package aurora.io;
 import aurora.Aurora;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 
 /**
  * Controller for the main GUI.
  */
-public class Ui extends AnchorPane {
+public class Ui extends AnchorPane implements Output {
 
-    // The singleton instance
-    private static Ui singleton = null;
-    private static boolean isSingletonSet = false;
+    // System property to configure how many messages are kept in the conversation
+    private static final String SCROLLBACK_PROPERTY = "aurora.scrollbackLimit";
+    private static final int DEFAULT_SCROLLBACK_LIMIT = 5_000;
 
     // The reference to Aurora application
     private Aurora aurora;
 
     // UI Elements
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator loadingIndicator;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
     private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
 
-    /**
-     * Returns the singleton instance of Ui
-     *
-     * @return the singleton instance of Ui.
-     */
-    public static Ui getSingleton() {
-        return singleton;
-    }
-
-    /**
-     * Injects the Ui instance.
-     *
-     * @param ui The Ui instance to be injected.
-     */
-    public static void setUiSingleton(Ui ui) {
-        if (isSingletonSet) {
-            return;
-        }
-        singleton = ui;
-        isSingletonSet = true;
-    }
+    // The messages shown in dialogList
+    private Conversation conversation;
 
     /**
-     * Initializes the Ui instance.
+     * Initializes the Ui instance, with the scrollback limit set in the system properties if any.
+     * e.g. -Daurora.scrollbackLimit=1000
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        assert(dialogList != null) : "dialogList is null.";
+
+        ObservableList<Message> messages = FXCollections.observableArrayList();
+        int scrollbackLimit = Math.max(1, Integer.getInteger(SCROLLBACK_PROPERTY, DEFAULT_SCROLLBACK_LIMIT));
+        conversation = new Conversation(messages, scrollbackLimit);
+
+        // Cells are created only for the visible messages and reused as the view scrolls
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(listView -> new MessageCell(listView, userImage, dukeImage));
+        dialogList.setFocusTraversable(false);
     }
 
     /**
@@ -86,11 +79,7 @@ public class Ui extends AnchorPane {
         assert(userInput != null) : "userInput editable textbox is null.";
         String input = userInput.getText();
 
-        assert(dialogContainer != null) : "dialogContainer is null.";
-        assert(userImage != null) : "userImage is null.";
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage)
-        );
+        showMessage(Message.fromUser(input));
 
         assert(aurora != null) : "aurora instance is null.";
         aurora.executeInput(input); // does not wait for response in event of UI blocking
@@ -99,21 +88,59 @@ public class Ui extends AnchorPane {
 
     /**
      * Displays the message in a dialog box.
+     * May be called from any thread, as messages are shown on the JavaFX application thread in the order printed.
      *
      * @param msg the message to be displayed.
      */
+    @Override
     public void printMsg(String msg) {
+        Message message = Message.fromAurora(msg);
+        if (Platform.isFxApplicationThread()) {
+            showMessage(message);
+        } else {
+            Platform.runLater(() -> showMessage(message));
+        }
+    }
+
+    /**
+     * Shows or hides the indicator that the task list is loading.
+     * May be called from any thread.
+     *
+     * @param isLoading whether the task list is loading.
+     */
+    @Override
+    public void setLoading(boolean isLoading) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> setLoading(isLoading));
+            return;
+        }
 
-        assert(dukeImage != null) : "dukeImage is null.";
-        dialogContainer.getChildren().addAll(
-                DialogBox.getAuroraDialog(msg, dukeImage)
-        );
+        assert(loadingIndicator != null) : "loadingIndicator is null.";
+        loadingIndicator.setVisible(isLoading);
     }
 
     /**
-     * Closes Aurora after a delay.
+     * Adds a message to the conversation and scrolls to it.
+     *
+     * @param message the message to be displayed.
      */
+    private void showMessage(Message message) {
+        assert(conversation != null) : "conversation is null.";
+        conversation.add(message);
+        dialogList.scrollTo(conversation.size() - 1);
+    }
+
+    /**
+     * Closes Aurora after a delay, once every message printed before has been shown.
+     * May be called from any thread.
+     */
+    @Override
     public void close() {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::close);
+            return;
+        }
+
         assert(userInput != null) : "userInput editable textbox is null.";
         assert(sendButton != null) : "sendButton is null.";
         userInput.setDisable(true);
@@ -0,0 +1,422 @@
+package aurora.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import aurora.exception.AuroraException;
+
+/**
+ * Represents a background writer that applies queued writes in order on a single thread.
+ * Journal records queued while the writer is busy, or within one commit interval, are grouped into
+ * a single write and a single fsync. Callers only wait for their writes when the durability level
+ * requires it.
+ */
+public class WriteBehindWriter {
+
+    /**
+     * Represents a write other than a journal append, run in order on the writer thread.
+     */
+    public interface WriteAction {
+
+        /**
+         * Performs the write.
+         *
+         * @throws IOException if unable to write.
+         */
+        void run() throws IOException;
+    }
+
+    // Exception messages
+    private static final String FILE_WRITE_FAIL =
+            "File could not be written to.";
+    private static final String WRITE_INTERRUPTED =
+            "Interrupted while waiting for file to be written.";
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    // The queued writes and the order in which they were queued
+    private final BlockingQueue<PendingWrite> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Object enqueueLock = new Object();
+    private long submittedTicket = 0;
+
+    // Progress of the writer thread
+    private final Object commitLock = new Object();
+    private long committedTicket = 0;
+    private boolean isFlushRequested = false;
+
+    // The oldest ticket of each failed batch whose failure no caller waited for and none was told of yet
+    private final Deque<Long> unreportedFailedTickets = new ArrayDeque<>();
+
+    // Writer thread state
+    private final Path journalFile;
+    private final Thread writerThread;
+    private FileChannel journalChannel = null;
+    private long lastCommitNanos = 0;
+    private volatile Durability durability;
+    private volatile long commitIntervalMillis;
+
+    /**
+     * Constructs and starts a new WriteBehindWriter.
+     *
+     * @param journalFile the journal file to append records to.
+     * @param durability how soon writes must reach the disk.
+     * @param commitIntervalMillis the commit interval for {@link Durability#INTERVAL}.
+     */
+    public WriteBehindWriter(Path journalFile, Durability durability, long commitIntervalMillis) {
+
+        assert(journalFile != null) : "journalFile is null.";
+
+        this.journalFile = journalFile;
+        this.lastCommitNanos = System.nanoTime();
+        setDurability(durability, commitIntervalMillis);
+
+        writerThread = new Thread(this::runWriter, "aurora-write-behind");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Sets how soon writes must reach the disk.
+     *
+     * @param durability the durability level.
+     * @param commitIntervalMillis the commit interval for {@link Durability#INTERVAL}.
+     */
+    public void setDurability(Durability durability, long commitIntervalMillis) {
+
+        assert(durability != null) : "durability is null.";
+        assert(commitIntervalMillis >= 0) : "commitIntervalMillis is negative.";
+
+        this.durability = durability;
+        this.commitIntervalMillis = commitIntervalMillis;
+    }
+
+    /**
+     * Queues a record to be appended to the journal.
+     * Blocks if the queue is full, and until the record is on disk for {@link Durability#EVERY_OP}.
+     *
+     * @param record the encoded journal record, including its line separator.
+     * @throws AuroraException if this or an earlier queued write failed.
+     */
+    public void append(byte[] record) throws AuroraException {
+
+        assert(record != null) : "record is null.";
+
+        enqueue(new PendingWrite(record, null, false));
+    }
+
+    /**
+     * Queues an arbitrary write to run after every write queued before it.
+     * Blocks if the queue is full, and until the write is done for {@link Durability#EVERY_OP}.
+     *
+     * @param action the write to run on the writer thread.
+     * @throws AuroraException if this or an earlier queued write failed.
+     */
+    public void submit(WriteAction action) throws AuroraException {
+
+        assert(action != null) : "action is null.";
+
+        enqueue(new PendingWrite(null, action, false));
+    }
+
+    /**
+     * Queues an arbitrary write to run after every write queued before it, without waiting for it whatever
+     * the durability level. Blocks only if the queue is full. The write must handle its own failures.
+     *
+     * @param action the write to run on the writer thread.
+     * @return true if the write was queued, or false if interrupted while waiting for room in the queue.
+     */
+    public boolean submitWithoutWaiting(WriteAction action) {
+
+        assert(action != null) : "action is null.";
+
+        try {
+            put(new PendingWrite(null, action, false));
+            return true;
+        } catch (AuroraException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Blocks until every write queued so far is done and flushed to disk, whatever the durability level.
+     *
+     * @throws AuroraException if a queued write failed.
+     */
+    public void flush() throws AuroraException {
+        synchronized (commitLock) {
+            isFlushRequested = true;
+            commitLock.notifyAll();
+        }
+
+        PendingWrite write = new PendingWrite(null, null, true);
+        write.isAwaited = true;
+        put(write);
+        awaitCommit(write.ticket);
+        throwIfFailed(write);
+    }
+
+    /**
+     * Queues a write and waits for it if the durability level requires.
+     *
+     * @param write the write to queue.
+     * @throws AuroraException if this or an earlier queued write failed.
+     */
+    private void enqueue(PendingWrite write) throws AuroraException {
+        write.isAwaited = durability == Durability.EVERY_OP;
+        put(write);
+
+        if (write.isAwaited) {
+            awaitCommit(write.ticket);
+        }
+
+        throwIfFailed(write);
+    }
+
+    /**
+     * Puts a write on the queue, blocking while the queue is full.
+     *
+     * @param write the write to queue.
+     * @return the ticket of the write, increasing in queue order.
+     * @throws AuroraException if interrupted while waiting.
+     */
+    private long put(PendingWrite write) throws AuroraException {
+        synchronized (enqueueLock) {
+            write.ticket = ++submittedTicket;
+            try {
+                queue.put(write);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AuroraException(WRITE_INTERRUPTED);
+            }
+            return write.ticket;
+        }
+    }
+
+    /**
+     * Waits until the writer has committed the write with the given ticket.
+     *
+     * @param ticket the ticket of the write.
+     * @throws AuroraException if interrupted while waiting.
+     */
+    private void awaitCommit(long ticket) throws AuroraException {
+        synchronized (commitLock) {
+            while (committedTicket < ticket) {
+                try {
+                    commitLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AuroraException(WRITE_INTERRUPTED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports the failure of a write that was waited for to its caller, and the failure of any write queued
+     * before it that nobody waited for once, so that the user learns about it on their next command.
+     * A write that was not waited for is never reported to its own caller, even if it has already failed,
+     * so whether a failure is reported does not depend on how fast the writer thread is.
+     *
+     * @param write the write just queued.
+     * @throws AuroraException if the write was waited for and failed, or an earlier write that was not
+     *         waited for failed since the last report.
+     */
+    private void throwIfFailed(PendingWrite write) throws AuroraException {
+        synchronized (commitLock) {
+            boolean hasFailed = write.isAwaited && write.isFailed;
+            while (!unreportedFailedTickets.isEmpty() && unreportedFailedTickets.peekFirst() < write.ticket) {
+                unreportedFailedTickets.pollFirst();
+                hasFailed = true;
+            }
+            if (hasFailed) {
+                throw new AuroraException(FILE_WRITE_FAIL);
+            }
+        }
+    }
+
+    /**
+     * Runs the writer loop: takes a batch of queued writes, applies them in order and commits them.
+     */
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>();
+        ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+
+        while (true) {
+            try {
+                PendingWrite first = queue.take();
+                batch.add(first);
+                if (!first.isFlush) {
+                    awaitCommitWindow();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            boolean isForced = durability != Durability.OS_BUFFERED;
+            for (PendingWrite write : batch) {
+                isForced |= write.isFlush;
+            }
+
+            boolean isBatchFailed = false;
+            try {
+                for (PendingWrite write : batch) {
+                    if (write.record != null) {
+                        journalBytes.write(write.record);
+                    } else if (write.action != null) {
+                        // Other writes may rewrite the journal, so it is written out and reopened afterwards
+                        writeJournal(journalBytes, isForced);
+                        closeJournal();
+                        write.action.run();
+                    }
+                }
+
+                writeJournal(journalBytes, isForced);
+            } catch (IOException e) {
+                isBatchFailed = true;
+                journalBytes.reset();
+                closeJournalQuietly();
+            }
+
+            lastCommitNanos = System.nanoTime();
+            markCommitted(batch, isBatchFailed);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Waits for the current commit window to end, unless a flush is requested.
+     *
+     * @throws InterruptedException if the writer thread is interrupted.
+     */
+    private void awaitCommitWindow() throws InterruptedException {
+        if (durability != Durability.INTERVAL) {
+            return;
+        }
+
+        long windowEndNanos = lastCommitNanos + TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+        synchronized (commitLock) {
+            long remainingNanos = windowEndNanos - System.nanoTime();
+            while (!isFlushRequested && remainingNanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(commitLock, remainingNanos);
+                remainingNanos = windowEndNanos - System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Publishes that every write in the batch is committed and wakes waiting callers.
+     * If the batch failed, every write in it is marked as failed, as it is not known which reached the disk.
+     *
+     * @param batch the writes in the batch, in queue order.
+     * @param isBatchFailed whether the batch failed.
+     */
+    private void markCommitted(List<PendingWrite> batch, boolean isBatchFailed) {
+        synchronized (commitLock) {
+            committedTicket = batch.get(batch.size() - 1).ticket;
+            if (isBatchFailed) {
+                long oldestUnawaitedTicket = 0;
+                for (PendingWrite write : batch) {
+                    write.isFailed = true;
+                    if (!write.isAwaited && oldestUnawaitedTicket == 0) {
+                        oldestUnawaitedTicket = write.ticket;
+                    }
+                }
+                if (oldestUnawaitedTicket != 0) {
+                    unreportedFailedTickets.addLast(oldestUnawaitedTicket);
+                }
+            }
+            if (queue.isEmpty()) {
+                isFlushRequested = false;
+            }
+            commitLock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes the buffered journal records with a single write, and flushes the journal to disk if required.
+     * The journal is flushed even with no records buffered, as records written earlier in the batch may not
+     * be on disk yet.
+     *
+     * @param journalBytes the buffered records, cleared afterwards.
+     * @param isForced whether the journal must be flushed to disk.
+     * @throws IOException if unable to write.
+     */
+    private void writeJournal(ByteArrayOutputStream journalBytes, boolean isForced) throws IOException {
+        if (journalBytes.size() == 0) {
+            if (isForced && journalChannel != null) {
+                journalChannel.force(false);
+            }
+            return;
+        }
+
+        if (journalChannel == null) {
+            journalChannel = FileChannel.open(journalFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(journalBytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            journalChannel.write(buffer);
+        }
+        journalBytes.reset();
+
+        if (isForced) {
+            journalChannel.force(false);
+        }
+    }
+
+    /**
+     * Closes the journal so that it is reopened on the next append.
+     *
+     * @throws IOException if unable to close.
+     */
+    private void closeJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+    }
+
+    /**
+     * Closes the journal after a failure, so that the next append starts from a fresh channel.
+     */
+    private void closeJournalQuietly() {
+        try {
+            closeJournal();
+        } catch (IOException e) {
+            journalChannel = null;
+        }
+    }
+
+    /**
+     * Represents a single queued write.
+     */
+    private static class PendingWrite {
+        private final byte[] record;
+        private final WriteAction action;
+        private final boolean isFlush;
+        private long ticket;
+
+        // Guarded by the commit lock once queued
+        private boolean isAwaited = false;
+        private boolean isFailed = false;
+
+        private PendingWrite(byte[] record, WriteAction action, boolean isFlush) {
+            this.record = record;
+            this.action = action;
+            this.isFlush = isFlush;
+        }
+    }
+}
@@ -0,0 +1,833 @@
+package aurora.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import aurora.exception.AuroraException;
+import aurora.util.DateTimeUtil;
+
+/**
+ * Represents a list of tasks stored column by column instead of as task objects, for very large lists.
+ * IDs, types, done flags, dates and descriptions each live in their own primitive array, so a task costs
+ * little more than its description bytes. Tasks returned by the list are views built on demand and
+ * are not linked to the list, so tasks must be changed through the list's methods.
+ * Deleted rows are skipped through a Fenwick tree over the live rows, which keeps accessing and deleting
+ * a task at any index at O(log n), and are compacted away once they outnumber the live rows.
+ * Rows stay in ascending order of ID, so the row of an ID is binary searched in O(log n) instead of being
+ * kept in a hash map that would cost more than the rest of the row.
+ * No search indexes are kept, so finding tasks scans the columns.
+ * The list is safe for concurrent use in the same way as {@link TaskList}.
+ */
+public class ColumnarTaskList extends TaskList {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACTION_DELETIONS = 1024;
+
+    // Type codes, matching the task keywords
+    private static final byte TYPE_TODO = (byte) ToDo.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_DEADLINE = (byte) Deadline.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_EVENT = (byte) Event.TASK_KEYWORD.charAt(0);
+    private static final byte TYPE_DO_WITHIN_PERIOD = (byte) DoWithinPeriod.TASK_KEYWORD.charAt(0);
+
+    // Exception messages
+    private static final String INVALID_ID = "No task has the ID \"#%d\".";
+    private static final String DUPLICATE_ID = "A task with the ID \"#%d\" is already in the list.";
+
+    // Columns, with one row for every task added since the last compaction
+    private long[] ids;
+    private byte[] types;
+    private long[] startDates;
+    private long[] endDates;
+    private int[] descriptionOffsets;
+    private byte[] descriptionBytes;
+    private BitSet doneRows;
+    private BitSet liveRows;
+
+    // Fenwick tree counting the live rows, for finding the row of an index
+    private int[] liveCounts;
+
+    private int capacity;
+    private int rowCount;
+    private int size;
+
+    /**
+     * Constructs a new ColumnarTaskList.
+     */
+    public ColumnarTaskList() {
+        super(List.of());
+        allocate(INITIAL_CAPACITY, INITIAL_CAPACITY * 32);
+    }
+
+    /**
+     * Gets the size of the list.
+     *
+     * @return the size of the list.
+     */
+    @Override
+    public int getSize() {
+        return read(stamp -> size);
+    }
+
+    /**
+     * Gets a view of the task at the specified index.
+     *
+     * @param index the 1-based index of the task to get.
+     * @return Task a view of the task at specified index.
+     * @throws AuroraException if the index is out of bounds.
+     */
+    @Override
+    public Task getTask(int index) throws AuroraException {
+        return read(stamp -> {
+            validateIndex(index); // throws an exception
+
+            return createView(findRow(index));
+        });
+    }
+
+    /**
+     * Gets a view of the task with an ID.
+     *
+     * @param id the ID of the task to get.
+     * @return Task a view of the task with the ID.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    @Override
+    public Task getTaskById(long id) throws AuroraException {
+        return read(stamp -> createView(findRowById(id)));
+    }
+
+    /**
+     * Gets the index of the task with an ID.
+     *
+     * @param id the ID of the task.
+     * @return the 1-based index of the task.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    @Override
+    public int getIndexById(long id) throws AuroraException {
+        return read(stamp -> countLiveRows(findRowById(id)));
+    }
+
+    /**
+     * Adds a task to the list by copying its fields into the columns, giving it the next ID if it has none yet.
+     *
+     * @param task the task to be added.
+     */
+    @Override
+    public void addToList(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        write(() -> {
+            appendRow(task);
+            return null;
+        });
+    }
+
+    /**
+     * Copies the fields of a task into a new row, giving it the next ID if it has none yet.
+     * Must be called while holding the write lock.
+     *
+     * @param task the task to be added.
+     */
+    private void appendRow(Task task) {
+        assignId(task);
+        int row = copyRow(task);
+        addLiveCount(row, 1);
+        size++;
+    }
+
+    /**
+     * Copies the fields of a task into a new live row at the end of the columns, without counting the row
+     * in the Fenwick tree or the size.
+     *
+     * @param task the task, which must have an ID higher than that of every row.
+     * @return the row.
+     */
+    private int copyRow(Task task) {
+        if (rowCount == capacity) {
+            resize(capacity * 2);
+        }
+
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        int descriptionStart = descriptionOffsets[rowCount];
+        if (descriptionStart + description.length > descriptionBytes.length) {
+            int newLength = Math.max(descriptionBytes.length * 2, descriptionStart + description.length);
+            descriptionBytes = Arrays.copyOf(descriptionBytes, newLength);
+        }
+        System.arraycopy(description, 0, descriptionBytes, descriptionStart, description.length);
+        descriptionOffsets[rowCount + 1] = descriptionStart + description.length;
+
+        int row = rowCount++;
+        writeFields(row, task);
+        doneRows.set(row, task.isDone());
+        liveRows.set(row);
+
+        return row;
+    }
+
+    /**
+     * Copies the ID, type and dates of a task into a row.
+     *
+     * @param row the row.
+     * @param task the task.
+     */
+    private void writeFields(int row, Task task) {
+        ids[row] = task.getId();
+        if (task instanceof Deadline) {
+            types[row] = TYPE_DEADLINE;
+            startDates[row] = DateTimeUtil.toEpochMinute(((Deadline) task).getByDate());
+            endDates[row] = startDates[row];
+        } else if (task instanceof Event) {
+            types[row] = TYPE_EVENT;
+            startDates[row] = DateTimeUtil.toEpochMinute(((Event) task).getStartDate());
+            endDates[row] = DateTimeUtil.toEpochMinute(((Event) task).getEndDate());
+        } else if (task instanceof DoWithinPeriod) {
+            types[row] = TYPE_DO_WITHIN_PERIOD;
+            startDates[row] = DateTimeUtil.toEpochMinute(((DoWithinPeriod) task).getStartPeriodDate());
+            endDates[row] = DateTimeUtil.toEpochMinute(((DoWithinPeriod) task).getEndPeriodDate());
+        } else {
+            types[row] = TYPE_TODO;
+        }
+    }
+
+    /**
+     * Puts a task that was deleted back into the list, at the position its ID orders it at.
+     *
+     * @param task the task to be put back.
+     * @throws AuroraException if a task with the same ID is already in the list.
+     */
+    @Override
+    public void restoreToList(Task task) throws AuroraException {
+
+        assert(task != null) : "task is null.";
+
+        restoreToList(List.of(task));
+    }
+
+    /**
+     * Puts several tasks that were deleted back into the list, at the positions their IDs order them at.
+     * The row of a task is revived if it has not been compacted away yet. Tasks whose rows are gone are
+     * merged back in with a single compaction in O(n + k) time, instead of shifting the rows for each.
+     *
+     * @param tasks the tasks to be put back, in ascending order of ID.
+     * @throws AuroraException if a task with the same ID as any of the tasks is already in the list.
+     */
+    @Override
+    public void restoreToList(List<Task> tasks) throws AuroraException {
+
+        assert(tasks != null) : "tasks is null.";
+
+        write(() -> {
+            long nextId = getNextId();
+            int[] rows = new int[tasks.size()];
+            for (int i = 0; i < rows.length; i++) {
+                long id = tasks.get(i).getId();
+                rows[i] = id == Task.NO_ID || id >= nextId ? -1 : Arrays.binarySearch(ids, 0, rowCount, id);
+                if (rows[i] >= 0 && liveRows.get(rows[i])) {
+                    throw new AuroraException(String.format(DUPLICATE_ID, id));
+                }
+            }
+
+            List<Task> mergedTasks = new ArrayList<>();
+            List<Task> newTasks = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                Task task = tasks.get(i);
+                if (task.getId() == Task.NO_ID || task.getId() >= nextId) {
+                    newTasks.add(task);
+                } else if (rows[i] < 0) {
+                    mergedTasks.add(task);
+                } else {
+                    doneRows.set(rows[i], task.isDone());
+                    liveRows.set(rows[i]);
+                    addLiveCount(rows[i], 1);
+                    size++;
+                }
+            }
+
+            if (!mergedTasks.isEmpty()) {
+                compact(mergedTasks);
+            }
+            for (Task task : newTasks) {
+                appendRow(task);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Deletes a task from the list.
+     *
+     * @param index the 1-based index of the task to be deleted.
+     * @return task a view of the task that was deleted.
+     * @throws AuroraException if the index is out of bounds.
+     */
+    @Override
+    public Task deleteFromList(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
+
+            return deleteRow(findRow(index));
+        });
+    }
+
+    /**
+     * Deletes the task with an ID from the list.
+     *
+     * @param id the ID of the task to be deleted.
+     * @return task a view of the task that was deleted.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    @Override
+    public Task deleteFromListById(long id) throws AuroraException {
+        return write(() -> deleteRow(findRowById(id)));
+    }
+
+    /**
+     * Deletes a live row, compacting the columns if deleted rows now outnumber live ones.
+     * Must be called while holding the write lock.
+     *
+     * @param row the row.
+     * @return a view of the task that was deleted.
+     */
+    private Task deleteRow(int row) {
+        Task task = createView(row);
+
+        liveRows.clear(row);
+        addLiveCount(row, -1);
+        size--;
+        compactIfNeeded();
+
+        return task;
+    }
+
+    /**
+     * Deletes several tasks from the list in one pass.
+     * The rows of all the tasks are found before any is deleted, and a large deletion rebuilds the
+     * Fenwick tree once in O(n) time instead of updating it for every row.
+     *
+     * @param indices the 1-based indices of the tasks to be deleted, distinct and in ascending order.
+     * @return views of the tasks that were deleted, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is deleted.
+     */
+    @Override
+    public List<Task> deleteFromList(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            int[] rows = findRows(indices);
+            List<Task> tasks = new ArrayList<>(rows.length);
+            for (int row : rows) {
+                tasks.add(createView(row));
+                liveRows.clear(row);
+            }
+
+            int height = 32 - Integer.numberOfLeadingZeros(capacity);
+            if ((long) rows.length * height >= capacity) {
+                rebuildLiveCounts();
+            } else {
+                for (int row : rows) {
+                    addLiveCount(row, -1);
+                }
+            }
+            size -= rows.length;
+            compactIfNeeded();
+
+            return tasks;
+        });
+    }
+
+    /**
+     * Compacts the columns if deleted rows now outnumber live ones.
+     * Must be called while holding the write lock.
+     */
+    private void compactIfNeeded() {
+        int deletedCount = rowCount - size;
+        if (deletedCount >= MIN_COMPACTION_DELETIONS && deletedCount > size) {
+            compact();
+        }
+    }
+
+    /**
+     * Marks a task as done.
+     *
+     * @param index the 1-based index of the task to be marked as done.
+     * @return task a view of the task that was marked as done.
+     * @throws AuroraException if the index is out of bounds.
+     */
+    @Override
+    public Task markTaskDone(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
+
+            int row = findRow(index);
+            doneRows.set(row);
+
+            return createView(row);
+        });
+    }
+
+    /**
+     * Marks a task as not done.
+     *
+     * @param index the 1-based index of the task to be marked as not done.
+     * @return task a view of the task that was marked as not done.
+     * @throws AuroraException if the index is out of bounds.
+     */
+    @Override
+    public Task unmarkTaskDone(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
+
+            int row = findRow(index);
+            doneRows.clear(row);
+
+            return createView(row);
+        });
+    }
+
+    /**
+     * Marks several tasks as done.
+     *
+     * @param indices the 1-based indices of the tasks to be marked as done, distinct and in ascending order.
+     * @return views of the tasks that were marked as done, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is marked.
+     */
+    @Override
+    public List<Task> markTasksDone(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            List<Task> tasks = new ArrayList<>(indices.length);
+            for (int row : findRows(indices)) {
+                doneRows.set(row);
+                tasks.add(createView(row));
+            }
+
+            return tasks;
+        });
+    }
+
+    /**
+     * Marks several tasks as not done.
+     *
+     * @param indices the 1-based indices of the tasks to be marked as not done, distinct and in ascending order.
+     * @return views of the tasks that were marked as not done, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is unmarked.
+     */
+    @Override
+    public List<Task> unmarkTasksDone(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            List<Task> tasks = new ArrayList<>(indices.length);
+            for (int row : findRows(indices)) {
+                doneRows.clear(row);
+                tasks.add(createView(row));
+            }
+
+            return tasks;
+        });
+    }
+
+    /**
+     * Marks the task with an ID as done.
+     *
+     * @param id the ID of the task to be marked as done.
+     * @return task a view of the task that was marked as done.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    @Override
+    public Task markTaskDoneById(long id) throws AuroraException {
+        return write(() -> {
+            int row = findRowById(id);
+            doneRows.set(row);
+
+            return createView(row);
+        });
+    }
+
+    /**
+     * Marks the task with an ID as not done.
+     *
+     * @param id the ID of the task to be marked as not done.
+     * @return task a view of the task that was marked as not done.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    @Override
+    public Task unmarkTaskDoneById(long id) throws AuroraException {
+        return write(() -> {
+            int row = findRowById(id);
+            doneRows.clear(row);
+
+            return createView(row);
+        });
+    }
+
+    /**
+     * Gets list of tasks with a keyword in its description, by scanning the encoded descriptions.
+     * Matching UTF-8 bytes gives the same results as {@link Task#hasKeyword(String)} for any keyword
+     * without unpaired surrogates.
+     *
+     * @param keyword the keyword to search for.
+     * @return TaskList containing tasks with the keyword in its description.
+     */
+    @Override
+    public TaskList findMatchingKeyword(String keyword) {
+        byte[] keywordBytes = keyword.getBytes(StandardCharsets.UTF_8);
+
+        return new TaskList(read(stamp -> {
+            List<Task> matches = new ArrayList<>();
+            int visited = 0;
+
+            for (int row = liveRows.nextSetBit(0); row >= 0; row = liveRows.nextSetBit(row + 1)) {
+                if ((++visited & STALE_CHECK_MASK) == 0 && isStale(stamp)) {
+                    break;
+                }
+                if (containsBytes(descriptionOffsets[row], descriptionOffsets[row + 1], keywordBytes)) {
+                    matches.add(createView(row));
+                }
+            }
+
+            return matches;
+        }));
+    }
+
+    /**
+     * Gets list of tasks with a date range overlapping a period, in order of their start, by scanning the
+     * date columns.
+     *
+     * @param from the start of the period.
+     * @param to the end of the period.
+     * @return TaskList containing tasks within the period.
+     */
+    @Override
+    public TaskList findWithinPeriod(LocalDateTime from, LocalDateTime to) {
+        long fromMinute = DateTimeUtil.toEpochMinute(from);
+        long toMinute = DateTimeUtil.toEpochMinute(to);
+
+        return new TaskList(read(stamp -> {
+            List<Integer> rows = new ArrayList<>();
+            int visited = 0;
+
+            for (int row = liveRows.nextSetBit(0); row >= 0; row = liveRows.nextSetBit(row + 1)) {
+                if ((++visited & STALE_CHECK_MASK) == 0 && isStale(stamp)) {
+                    break;
+                }
+                boolean hasDates = types[row] != TYPE_TODO;
+                if (hasDates && getRangeStart(row) <= toMinute && getRangeEnd(row) >= fromMinute) {
+                    rows.add(row);
+                }
+            }
+
+            rows.sort(Comparator.comparingLong(this::getRangeStart));
+
+            List<Task> matches = new ArrayList<>(rows.size());
+            for (int row : rows) {
+                matches.add(createView(row));
+            }
+
+            return matches;
+        }));
+    }
+
+    /**
+     * Gets views of a slice of the tasks in the list, in order.
+     * The first row of the slice is found through the Fenwick tree in O(log n) time.
+     *
+     * @param fromIndex the 1-based index of the first task of the slice.
+     * @param count the greatest number of tasks in the slice.
+     * @return a new list holding the views, which is empty if the index is past the end of the list.
+     */
+    @Override
+    public List<Task> getTasks(int fromIndex, int count) {
+
+        assert(fromIndex >= 1) : "fromIndex is less than 1.";
+        assert(count >= 0) : "count is negative.";
+
+        return read(stamp -> {
+            List<Task> tasks = new ArrayList<>(Math.min(count, Math.max(0, size - fromIndex + 1)));
+            if (fromIndex > size) {
+                return tasks;
+            }
+
+            for (int row = findRow(fromIndex); row >= 0 && tasks.size() < count; row = liveRows.nextSetBit(row + 1)) {
+                if ((tasks.size() & STALE_CHECK_MASK) == STALE_CHECK_MASK && isStale(stamp)) {
+                    break;
+                }
+                tasks.add(createView(row));
+            }
+
+            return tasks;
+        });
+    }
+
+    /**
+     * Builds a task from a row of the columns.
+     *
+     * @param row the row.
+     * @return the task.
+     */
+    private Task createView(int row) {
+        int descriptionStart = descriptionOffsets[row];
+        String description = new String(descriptionBytes, descriptionStart,
+                descriptionOffsets[row + 1] - descriptionStart, StandardCharsets.UTF_8);
+
+        Task task;
+        byte type = types[row];
+        if (type == TYPE_DEADLINE) {
+            task = new Deadline(description, DateTimeUtil.fromEpochMinute(startDates[row]));
+        } else if (type == TYPE_EVENT) {
+            task = new Event(description, DateTimeUtil.fromEpochMinute(startDates[row]),
+                    DateTimeUtil.fromEpochMinute(endDates[row]));
+        } else if (type == TYPE_DO_WITHIN_PERIOD) {
+            task = new DoWithinPeriod(description, DateTimeUtil.fromEpochMinute(startDates[row]),
+                    DateTimeUtil.fromEpochMinute(endDates[row]));
+        } else {
+            task = new ToDo(description);
+        }
+
+        if (doneRows.get(row)) {
+            task.markAsDone();
+        }
+        task.setId(ids[row]);
+
+        return task;
+    }
+
+    /**
+     * Gets the earlier of a row's dates.
+     *
+     * @param row the row.
+     * @return the start of the row's date range in epoch minutes.
+     */
+    private long getRangeStart(int row) {
+        return Math.min(startDates[row], endDates[row]);
+    }
+
+    /**
+     * Gets the later of a row's dates.
+     *
+     * @param row the row.
+     * @return the end of the row's date range in epoch minutes.
+     */
+    private long getRangeEnd(int row) {
+        return Math.max(startDates[row], endDates[row]);
+    }
+
+    /**
+     * Checks if a range of the description bytes contains a byte sequence.
+     *
+     * @param start the index of the first description byte.
+     * @param end the index after the last description byte.
+     * @param target the byte sequence to look for.
+     * @return true if the byte sequence occurs within the range.
+     */
+    private boolean containsBytes(int start, int end, byte[] target) {
+        int lastStart = end - target.length;
+
+        for (int i = start; i <= lastStart; i++) {
+            int j = 0;
+            while (j < target.length && descriptionBytes[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the row of the task at an index by descending the Fenwick tree.
+     *
+     * @param index the 1-based index of the task, which must be valid.
+     * @return the row.
+     */
+    private int findRow(int index) {
+        int position = 0;
+        int remaining = index;
+
+        for (int step = Integer.highestOneBit(capacity); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= capacity && liveCounts[next] < remaining) {
+                position = next;
+                remaining -= liveCounts[next];
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Finds the rows of the tasks at several indices.
+     *
+     * @param indices the 1-based indices of the tasks, which must be valid.
+     * @return the row of each task, in the same order.
+     */
+    private int[] findRows(int[] indices) {
+        int[] rows = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            rows[i] = findRow(indices[i]);
+        }
+
+        return rows;
+    }
+
+    /**
+     * Finds the live row of the task with an ID by binary searching the ID column.
+     *
+     * @param id the ID of the task.
+     * @return the row.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    private int findRowById(long id) throws AuroraException {
+        int row = Arrays.binarySearch(ids, 0, rowCount, id);
+        if (row < 0 || !liveRows.get(row)) {
+            throw new AuroraException(String.format(INVALID_ID, id));
+        }
+
+        return row;
+    }
+
+    /**
+     * Counts the live rows up to and including a row in the Fenwick tree.
+     *
+     * @param row the row.
+     * @return the number of live rows, which is the 1-based index of the row if it is live.
+     */
+    private int countLiveRows(int row) {
+        int count = 0;
+        for (int i = row + 1; i > 0; i -= i & -i) {
+            count += liveCounts[i];
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds to the live count of a row in the Fenwick tree.
+     *
+     * @param row the row.
+     * @param delta the amount to add.
+     */
+    private void addLiveCount(int row, int delta) {
+        for (int i = row + 1; i <= capacity; i += i & -i) {
+            liveCounts[i] += delta;
+        }
+    }
+
+    /**
+     * Rebuilds the Fenwick tree from the live rows in O(n) time.
+     */
+    private void rebuildLiveCounts() {
+        liveCounts = new int[capacity + 1];
+        for (int row = liveRows.nextSetBit(0); row >= 0; row = liveRows.nextSetBit(row + 1)) {
+            liveCounts[row + 1] = 1;
+        }
+
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                liveCounts[parent] += liveCounts[i];
+            }
+        }
+    }
+
+    /**
+     * Allocates empty columns.
+     *
+     * @param rowCapacity the number of rows to allocate.
+     * @param byteCapacity the number of description bytes to allocate.
+     */
+    private void allocate(int rowCapacity, int byteCapacity) {
+        capacity = rowCapacity;
+        ids = new long[rowCapacity];
+        types = new byte[rowCapacity];
+        startDates = new long[rowCapacity];
+        endDates = new long[rowCapacity];
+        descriptionOffsets = new int[rowCapacity + 1];
+        descriptionBytes = new byte[byteCapacity];
+        doneRows = new BitSet(rowCapacity);
+        liveRows = new BitSet(rowCapacity);
+        liveCounts = new int[rowCapacity + 1];
+        rowCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Grows the columns to a new row capacity.
+     *
+     * @param newCapacity the new number of rows.
+     */
+    private void resize(int newCapacity) {
+        capacity = newCapacity;
+        ids = Arrays.copyOf(ids, newCapacity);
+        types = Arrays.copyOf(types, newCapacity);
+        startDates = Arrays.copyOf(startDates, newCapacity);
+        endDates = Arrays.copyOf(endDates, newCapacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, newCapacity + 1);
+        rebuildLiveCounts();
+    }
+
+    /**
+     * Rewrites the columns without the deleted rows, keeping the live rows in order.
+     */
+    private void compact() {
+        compact(List.of());
+    }
+
+    /**
+     * Rewrites the columns without the deleted rows, merging rows for tasks into the live rows in order of ID.
+     *
+     * @param mergedTasks the tasks to add rows for, in ascending order of ID, none of which has a row.
+     */
+    private void compact(List<Task> mergedTasks) {
+        long[] oldIds = ids;
+        byte[] oldTypes = types;
+        long[] oldStartDates = startDates;
+        long[] oldEndDates = endDates;
+        int[] oldDescriptionOffsets = descriptionOffsets;
+        byte[] oldDescriptionBytes = descriptionBytes;
+        BitSet oldDoneRows = doneRows;
+        BitSet oldLiveRows = liveRows;
+
+        int liveBytes = 0;
+        for (int row = oldLiveRows.nextSetBit(0); row >= 0; row = oldLiveRows.nextSetBit(row + 1)) {
+            liveBytes += oldDescriptionOffsets[row + 1] - oldDescriptionOffsets[row];
+        }
+        int newSize = size + mergedTasks.size();
+        allocate(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(newSize) * 2), Math.max(liveBytes, 1));
+
+        int next = 0;
+        for (int oldRow = oldLiveRows.nextSetBit(0); oldRow >= 0; oldRow = oldLiveRows.nextSetBit(oldRow + 1)) {
+            while (next < mergedTasks.size() && mergedTasks.get(next).getId() < oldIds[oldRow]) {
+                copyRow(mergedTasks.get(next++));
+            }
+
+            int row = rowCount++;
+            int length = oldDescriptionOffsets[oldRow + 1] - oldDescriptionOffsets[oldRow];
+            System.arraycopy(oldDescriptionBytes, oldDescriptionOffsets[oldRow], descriptionBytes,
+                    descriptionOffsets[row], length);
+            descriptionOffsets[row + 1] = descriptionOffsets[row] + length;
+            ids[row] = oldIds[oldRow];
+            types[row] = oldTypes[oldRow];
+            startDates[row] = oldStartDates[oldRow];
+            endDates[row] = oldEndDates[oldRow];
+            doneRows.set(row, oldDoneRows.get(oldRow));
+            liveRows.set(row);
+        }
+        while (next < mergedTasks.size()) {
+            copyRow(mergedTasks.get(next++));
+        }
+
+        size = rowCount;
+        rebuildLiveCounts();
+    }
+}
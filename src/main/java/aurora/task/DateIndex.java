@@ -0,0 +1,97 @@
+package aurora.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import aurora.util.DateTimeUtil;
+import aurora.util.IntervalTree;
+
+/**
+ * Represents an index of the date ranges of tasks, for finding the tasks that fall within a period.
+ * Events and periods are indexed by their start and end, and deadlines as zero-length ranges at their
+ * due date. To-dos have no dates and are not indexed. Tasks sharing a start are told apart by their ID.
+ */
+public class DateIndex {
+
+    private final IntervalTree<Task> intervals = new IntervalTree<>();
+
+    /**
+     * Indexes a task, if it has dates.
+     *
+     * @param task the task to index, which must have an ID.
+     */
+    public void add(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        long[] range = getRange(task);
+        if (range != null) {
+            intervals.add(range[0], range[1], task.getId(), task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task the task to remove.
+     */
+    public void remove(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        long[] range = getRange(task);
+        if (range != null) {
+            intervals.remove(range[0], task.getId());
+        }
+    }
+
+    /**
+     * Gets the tasks whose date range overlaps a period, in order of start.
+     * A range touching either end of the period counts as overlapping.
+     *
+     * @param from the start of the period.
+     * @param to the end of the period.
+     * @return the overlapping tasks.
+     */
+    public List<Task> findOverlapping(LocalDateTime from, LocalDateTime to) {
+
+        assert(from != null) : "from is null.";
+        assert(to != null) : "to is null.";
+
+        List<Task> results = new ArrayList<>();
+        intervals.findOverlapping(DateTimeUtil.toEpochMinute(from), DateTimeUtil.toEpochMinute(to), results);
+        return results;
+    }
+
+    /**
+     * Gets the date range of a task in epoch minutes, as it is indexed.
+     *
+     * @param task the task.
+     * @return the start and end of the range, or null if the task has no dates.
+     */
+    public static long[] getRange(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        LocalDateTime start;
+        LocalDateTime end;
+        if (task instanceof Deadline) {
+            start = ((Deadline) task).getByDate();
+            end = start;
+        } else if (task instanceof Event) {
+            start = ((Event) task).getStartDate();
+            end = ((Event) task).getEndDate();
+        } else if (task instanceof DoWithinPeriod) {
+            start = ((DoWithinPeriod) task).getStartPeriodDate();
+            end = ((DoWithinPeriod) task).getEndPeriodDate();
+        } else {
+            return null;
+        }
+
+        // Assumption: a range entered backwards covers the same period as the right way round
+        long startMinute = DateTimeUtil.toEpochMinute(start);
+        long endMinute = DateTimeUtil.toEpochMinute(end);
+        return new long[] {Math.min(startMinute, endMinute), Math.max(startMinute, endMinute)};
+    }
+}
@@ -12,8 +12,8 @@ public class Deadline extends Task {
 
     // Deadline specific fields
     private final LocalDateTime byDate;
-    private final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
-    private final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
+    private static final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
 
     /**
      * Constructs a new Deadline Task.
@@ -29,6 +29,15 @@ public class Deadline extends Task {
         this.byDate = byDate;
     }
 
+    /**
+     * Gets the deadline of the Deadline task.
+     *
+     * @return the deadline of the Deadline task.
+     */
+    public LocalDateTime getByDate() {
+        return byDate;
+    }
+
     /**
      * Gets deadline in file format string representation.
      *
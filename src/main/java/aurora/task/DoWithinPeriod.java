@@ -14,8 +14,8 @@ public class DoWithinPeriod extends Task {
     // Event specific fields
     private final LocalDateTime startPeriodDate;
     private final LocalDateTime endPeriodDate;
-    private final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
-    private final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
+    private static final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
 
     /**
      * Constructs a DoWithinPeriod task.
@@ -34,6 +34,24 @@ public class DoWithinPeriod extends Task {
         this.endPeriodDate = endDate;
     }
 
+    /**
+     * Gets the start date of the DoWithinPeriod task.
+     *
+     * @return the start date of the DoWithinPeriod task.
+     */
+    public LocalDateTime getStartPeriodDate() {
+        return startPeriodDate;
+    }
+
+    /**
+     * Gets the end date of the DoWithinPeriod task.
+     *
+     * @return the end date of the DoWithinPeriod task.
+     */
+    public LocalDateTime getEndPeriodDate() {
+        return endPeriodDate;
+    }
+
     /**
      * Gets doWithinPeriod in file format string representation.
      *
@@ -13,8 +13,8 @@ public class Event extends Task {
     // Event specific fields
     private final LocalDateTime startDate;
     private final LocalDateTime endDate;
-    private final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
-    private final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final DateTimeFormatter outputFormat = DateTimeFormatter.ofPattern("MMM d yyyy h:mma");
+    private static final DateTimeFormatter fileFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
 
     /**
      * Constructs a new Event task.
@@ -33,6 +33,24 @@ public class Event extends Task {
         this.endDate = endDate;
     }
 
+    /**
+     * Gets the start date of the Event task.
+     *
+     * @return the start date of the Event task.
+     */
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Gets the end date of the Event task.
+     *
+     * @return the end date of the Event task.
+     */
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
     /**
      * Gets event in file format string representation.
      *
@@ -0,0 +1,147 @@
+package aurora.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import aurora.util.DateTimeUtil;
+
+/**
+ * Represents a utility class that finds events not yet done whose times overlap.
+ * Two events overlap if each starts before the other ends, so events that only touch, with one ending
+ * as the other starts, do not. As with the date index, an event entered backwards covers the same period
+ * as the right way round.
+ */
+public class EventConflicts {
+
+    /**
+     * Constructs a new EventConflicts.
+     */
+    private EventConflicts() {}
+
+    /**
+     * Finds the events in a task list that overlap an event, in order of start.
+     * The candidates are looked up in the date index of the task list, so this takes O(log n + k) time.
+     *
+     * @param taskList the task list to search.
+     * @param event the event, which is left out of the results if it is in the list.
+     * @return the overlapping events.
+     */
+    public static List<Event> findOverlapping(TaskList taskList, Event event) {
+
+        assert(taskList != null) : "taskList is null.";
+        assert(event != null) : "event is null.";
+
+        long[] range = DateIndex.getRange(event);
+        List<Event> overlapping = new ArrayList<>();
+
+        TaskList candidates = taskList.findWithinPeriod(DateTimeUtil.fromEpochMinute(range[0]),
+                DateTimeUtil.fromEpochMinute(range[1]));
+        for (Task task : candidates.getTasks()) {
+            if (isPending(task) && task.getId() != event.getId() && isOverlapping(range, DateIndex.getRange(task))) {
+                overlapping.add((Event) task);
+            }
+        }
+
+        return overlapping;
+    }
+
+    /**
+     * Finds every pair of events in a task list that overlap.
+     * The events are swept in order of start, keeping the events that have not yet ended in a heap ordered
+     * by end. Each event overlaps exactly those left in the heap once the events ended by its start are
+     * removed, so this takes O(n log n + k) time for k pairs.
+     *
+     * @param taskList the task list to search.
+     * @return the overlapping pairs, each holding the event that starts first, in order of the later start.
+     */
+    public static List<Conflict> findAll(TaskList taskList) {
+
+        assert(taskList != null) : "taskList is null.";
+
+        // The date index hands back every dated task in order of start
+        TaskList datedTasks = taskList.findWithinPeriod(LocalDateTime.MIN, LocalDateTime.MAX);
+
+        PriorityQueue<long[]> activeRanges = new PriorityQueue<>(Comparator.comparingLong(range -> range[1]));
+        List<Event> events = new ArrayList<>();
+        List<Conflict> conflicts = new ArrayList<>();
+
+        for (Task task : datedTasks.getTasks()) {
+            if (!isPending(task)) {
+                continue;
+            }
+
+            Event event = (Event) task;
+            long[] range = DateIndex.getRange(event);
+            while (!activeRanges.isEmpty() && activeRanges.peek()[1] <= range[0]) {
+                activeRanges.poll();
+            }
+
+            for (long[] activeRange : activeRanges) {
+                // Only an event of no length starting with an active event touches it without overlapping
+                if (isOverlapping(activeRange, range)) {
+                    conflicts.add(new Conflict(events.get((int) activeRange[2]), event));
+                }
+            }
+
+            activeRanges.add(new long[] {range[0], range[1], events.size()});
+            events.add(event);
+        }
+
+        return conflicts;
+    }
+
+    /**
+     * Checks if a task is an event that is not yet done.
+     *
+     * @param task the task.
+     * @return true if the task is an event not yet done.
+     */
+    private static boolean isPending(Task task) {
+        return task instanceof Event && !task.isDone();
+    }
+
+    /**
+     * Checks if two ranges overlap by more than an endpoint.
+     *
+     * @param first the start and end of the first range.
+     * @param second the start and end of the second range.
+     * @return true if each range starts before the other ends.
+     */
+    private static boolean isOverlapping(long[] first, long[] second) {
+        return first[0] < second[1] && second[0] < first[1];
+    }
+
+    /**
+     * Represents a pair of events that overlap.
+     */
+    public static class Conflict {
+        private final Event first;
+        private final Event second;
+
+        private Conflict(Event first, Event second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * Gets the event of the pair that starts first.
+         *
+         * @return the event.
+         */
+        public Event getFirst() {
+            return first;
+        }
+
+        /**
+         * Gets the event of the pair that starts later.
+         *
+         * @return the event.
+         */
+        public Event getSecond() {
+            return second;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package aurora.task;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import aurora.exception.AuroraException;
+
+/**
+ * Represents the history of changes made to a task list by commands, for undoing and redoing them.
+ * A step records only the tasks that a command changed instead of a copy of the list, so it costs memory
+ * in proportion to the tasks it touched, and undoing or redoing it takes O(k log n) time for k tasks.
+ * Only the latest steps up to the depth of the history are kept.
+ * The history is used from the command worker only, and is not safe for concurrent use.
+ */
+public class History {
+
+    public static final int DEFAULT_DEPTH = 100;
+
+    // Exception messages
+    private static final String NOTHING_TO_UNDO = "There is nothing to undo.";
+    private static final String NOTHING_TO_REDO = "There is nothing to redo.";
+
+    // The most recent step is at the head of each deque
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private int depth = DEFAULT_DEPTH;
+
+    /**
+     * Sets the greatest number of steps that can be undone, forgetting the oldest steps beyond it.
+     *
+     * @param depth the number of steps, where 0 turns the history off.
+     */
+    public void setDepth(int depth) {
+
+        assert(depth >= 0) : "depth is negative.";
+
+        this.depth = depth;
+        while (undoSteps.size() > depth) {
+            undoSteps.removeLast();
+        }
+    }
+
+    /**
+     * Records a change made to the task list, which can no longer redo any step undone before it.
+     *
+     * @param operation the operation that changed the tasks.
+     * @param tasks the tasks that were changed, where a task that was marked must not have been done before.
+     */
+    public void record(Operation operation, List<Task> tasks) {
+
+        assert(operation != null) : "operation is null.";
+        assert(operation != Operation.RESTORE) : "only commands are recorded.";
+        assert(tasks != null) : "tasks is null.";
+
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        redoSteps.clear();
+        if (depth == 0) {
+            return;
+        }
+
+        undoSteps.push(new Step(operation, List.copyOf(tasks)));
+        if (undoSteps.size() > depth) {
+            undoSteps.removeLast();
+        }
+    }
+
+    /**
+     * Undoes the latest step by applying its inverse to the task list.
+     *
+     * @param taskList the task list the step was made to.
+     * @return the inverse step that was applied.
+     * @throws AuroraException if there is nothing to undo or the task list no longer matches the step.
+     */
+    public Step undo(TaskList taskList) throws AuroraException {
+
+        assert(taskList != null) : "taskList is null.";
+
+        if (undoSteps.isEmpty()) {
+            throw new AuroraException(NOTHING_TO_UNDO);
+        }
+
+        Step step = undoSteps.peek();
+        Step inverse = new Step(step.operation.getInverse(), step.tasks);
+        apply(inverse, taskList);
+
+        redoSteps.push(undoSteps.pop());
+        return inverse;
+    }
+
+    /**
+     * Redoes the latest step undone by applying it to the task list again.
+     * An addition is redone by putting the task back, as its ID was already given out.
+     *
+     * @param taskList the task list the step was made to.
+     * @return the step that was applied.
+     * @throws AuroraException if there is nothing to redo or the task list no longer matches the step.
+     */
+    public Step redo(TaskList taskList) throws AuroraException {
+
+        assert(taskList != null) : "taskList is null.";
+
+        if (redoSteps.isEmpty()) {
+            throw new AuroraException(NOTHING_TO_REDO);
+        }
+
+        Step step = redoSteps.peek();
+        Step replay = step.operation == Operation.ADD ? new Step(Operation.RESTORE, step.tasks) : step;
+        apply(replay, taskList);
+
+        undoSteps.push(redoSteps.pop());
+        return replay;
+    }
+
+    /**
+     * Applies a step to the task list under a single write.
+     *
+     * @param step the step.
+     * @param taskList the task list.
+     * @throws AuroraException if a task of the step is missing from the list, or already in it when restoring.
+     */
+    private void apply(Step step, TaskList taskList) throws AuroraException {
+        taskList.write(() -> {
+            switch (step.operation) {
+            case DELETE:
+                taskList.deleteFromList(findIndices(step.tasks, taskList));
+                break;
+            case RESTORE:
+                taskList.restoreToList(step.tasks);
+                break;
+            case MARK:
+                taskList.markTasksDone(findIndices(step.tasks, taskList));
+                break;
+            case UNMARK:
+                taskList.unmarkTasksDone(findIndices(step.tasks, taskList));
+                break;
+            default:
+                throw new AssertionError(step.operation);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Finds the indices of tasks in the task list.
+     *
+     * @param tasks the tasks.
+     * @param taskList the task list.
+     * @return the 1-based indices of the tasks, in ascending order.
+     * @throws AuroraException if a task is not in the list.
+     */
+    private static int[] findIndices(List<Task> tasks, TaskList taskList) throws AuroraException {
+        int[] indices = new int[tasks.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = taskList.getIndexById(tasks.get(i).getId());
+        }
+
+        Arrays.sort(indices);
+        return indices;
+    }
+
+    /**
+     * Represents a change to the tasks of a task list.
+     */
+    public enum Operation {
+        ADD, DELETE, RESTORE, MARK, UNMARK;
+
+        /**
+         * Gets the operation that reverses this one.
+         *
+         * @return the inverse operation.
+         */
+        public Operation getInverse() {
+            switch (this) {
+            case ADD:
+                return DELETE;
+            case DELETE:
+                return RESTORE;
+            case RESTORE:
+                return DELETE;
+            case MARK:
+                return UNMARK;
+            default:
+                return MARK;
+            }
+        }
+    }
+
+    /**
+     * Represents one operation applied to several tasks at once.
+     */
+    public static class Step {
+        private final Operation operation;
+        private final List<Task> tasks;
+
+        private Step(Operation operation, List<Task> tasks) {
+            this.operation = operation;
+            this.tasks = tasks;
+        }
+
+        /**
+         * Gets the operation of the step.
+         *
+         * @return the operation.
+         */
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Gets the tasks the step changes.
+         *
+         * @return the tasks, which must not be modified.
+         */
+        public List<Task> getTasks() {
+            return tasks;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package aurora.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an inverted index from the words of task descriptions to the tasks containing them.
+ * A word is a maximal run of non-whitespace characters, so any keyword without whitespace can only
+ * occur inside a single word. Such a keyword is answered from the postings of the indexed words that
+ * contain it, giving exactly the tasks whose description contains the keyword without reading them.
+ * Longer keywords are left to the trigram index, so the index only answers keywords of up to two characters,
+ * and each distinct word is also filed under every such substring of it to find the words containing one.
+ */
+public class KeywordIndex extends PostingIndex {
+
+    private static final int MAX_KEYWORD_LENGTH = 2;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    // The posting lists of the distinct words, under every distinct substring of the word the index answers
+    private final Map<String, List<PostingList>> wordsBySubstring = new HashMap<>();
+
+    /**
+     * Checks if the index can answer a keyword exactly.
+     *
+     * @param keyword the keyword to search for.
+     * @return true if the keyword is non-empty, at most two characters long and has no whitespace.
+     */
+    public boolean canAnswer(String keyword) {
+        if (keyword.isEmpty() || keyword.length() > MAX_KEYWORD_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < keyword.length(); i++) {
+            if (Character.isWhitespace(keyword.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the tasks whose description contains a keyword, in task list order.
+     * This costs one lookup plus the postings of the matching words, rather than reading the description of
+     * every task or checking every distinct word.
+     *
+     * @param keyword the keyword, which must be answerable by {@link #canAnswer(String)}.
+     * @return the matching tasks.
+     */
+    public List<Task> find(String keyword) {
+
+        assert(canAnswer(keyword)) : "keyword cannot be answered by the index.";
+
+        // The keyword may also sit inside longer words, which must match too
+        List<PostingList> matchingPostings = wordsBySubstring.getOrDefault(keyword, List.of());
+        int matchCount = 0;
+        for (PostingList postings : matchingPostings) {
+            matchCount += postings.size();
+        }
+
+        int[] sequences = new int[matchCount];
+        int count = 0;
+        for (PostingList postings : matchingPostings) {
+            for (int i = 0; i < postings.size(); i++) {
+                sequences[count++] = postings.get(i);
+            }
+        }
+        if (matchingPostings.size() > 1) {
+            Arrays.sort(sequences);
+        }
+
+        List<Task> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = getTask(sequences[i]);
+            if (task != null && (i == 0 || sequences[i] != sequences[i - 1])) {
+                matches.add(task);
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Appends a sequence number to the posting list of every word of a description.
+     *
+     * @param description the description of the task.
+     * @param sequence the sequence number of the task.
+     */
+    @Override
+    protected void addPostings(String description, int sequence) {
+        int wordStart = -1;
+
+        for (int i = 0; i <= description.length(); i++) {
+            boolean isBoundary = i == description.length() || Character.isWhitespace(description.charAt(i));
+            if (isBoundary && wordStart != -1) {
+                String word = description.substring(wordStart, i);
+                postings.computeIfAbsent(word, this::addWord).append(sequence);
+                wordStart = -1;
+            } else if (!isBoundary && wordStart == -1) {
+                wordStart = i;
+            }
+        }
+    }
+
+    /**
+     * Creates the posting list of a word seen for the first time and files it under every substring of the
+     * word the index answers.
+     *
+     * @param word the word.
+     * @return the empty posting list of the word.
+     */
+    private PostingList addWord(String word) {
+        PostingList wordPostings = new PostingList();
+
+        for (int length = 1; length <= MAX_KEYWORD_LENGTH; length++) {
+            for (int i = 0; i + length <= word.length(); i++) {
+                List<PostingList> words = wordsBySubstring.computeIfAbsent(word.substring(i, i + length),
+                        key -> new ArrayList<>());
+                // A substring repeated within the word is filed once, and would have been filed last
+                if (words.isEmpty() || words.get(words.size() - 1) != wordPostings) {
+                    words.add(wordPostings);
+                }
+            }
+        }
+
+        return wordPostings;
+    }
+
+    /**
+     * Removes every posting list.
+     */
+    @Override
+    protected void clearPostings() {
+        postings.clear();
+        wordsBySubstring.clear();
+    }
+}
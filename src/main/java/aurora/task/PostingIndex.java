@@ -0,0 +1,134 @@
+package aurora.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import aurora.util.LongHashMap;
+
+/**
+ * Represents an inverted index from keys derived from task descriptions to posting lists of the tasks
+ * holding them. Every indexed task gets a sequence number in task list order, so posting lists stay
+ * sorted and can be merged or intersected without sorting. Deleted tasks are only unlinked from the
+ * sequence table and skipped on lookup; the postings are rebuilt once deleted tasks outnumber live ones.
+ * A deleted task put back into the list is indexed last, so until the next rebuild the tasks found may be
+ * out of list order, which is the order of ID.
+ */
+public abstract class PostingIndex {
+
+    private static final int MIN_REBUILD_DELETIONS = 1024;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The sequence number of each indexed task, by task ID
+    private final LongHashMap<Integer> sequences = new LongHashMap<>();
+    private Task[] tasksBySequence = new Task[INITIAL_CAPACITY];
+    private int nextSequence = 0;
+    private int deletedCount = 0;
+    private long maxIndexedId = Task.NO_ID;
+    private boolean isInListOrder = true;
+
+    /**
+     * Appends a sequence number to the posting list of every key of a description.
+     *
+     * @param description the description of the task.
+     * @param sequence the sequence number of the task.
+     */
+    protected abstract void addPostings(String description, int sequence);
+
+    /**
+     * Removes every posting list.
+     */
+    protected abstract void clearPostings();
+
+    /**
+     * Indexes a task appended to the end of the task list.
+     *
+     * @param task the task to index, which must have an ID.
+     */
+    public void add(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        if (nextSequence == tasksBySequence.length) {
+            tasksBySequence = Arrays.copyOf(tasksBySequence, nextSequence * 2);
+        }
+
+        if (task.getId() < maxIndexedId) {
+            isInListOrder = false;
+        }
+        maxIndexedId = Math.max(maxIndexedId, task.getId());
+
+        int sequence = nextSequence++;
+        tasksBySequence[sequence] = task;
+        sequences.put(task.getId(), sequence);
+        addPostings(task.getDescription(), sequence);
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task the task to remove.
+     */
+    public void remove(Task task) {
+
+        assert(task != null) : "task is null.";
+
+        Integer sequence = sequences.remove(task.getId());
+        if (sequence == null) {
+            return;
+        }
+
+        tasksBySequence[sequence] = null;
+        deletedCount++;
+        if (deletedCount >= MIN_REBUILD_DELETIONS && deletedCount > sequences.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Checks if tasks were indexed in list order, so that the tasks found are in list order too.
+     *
+     * @return true if no task was indexed after a task with a higher ID.
+     */
+    public boolean isInListOrder() {
+        return isInListOrder;
+    }
+
+    /**
+     * Gets the task with a sequence number.
+     *
+     * @param sequence the sequence number.
+     * @return the task, or null if it has been removed.
+     */
+    protected Task getTask(int sequence) {
+        return tasksBySequence[sequence];
+    }
+
+    /**
+     * Re-indexes the live tasks with fresh sequence numbers, dropping every deleted task from the postings.
+     */
+    private void rebuild() {
+        List<Task> liveTasks = new ArrayList<>(sequences.size());
+        for (int sequence = 0; sequence < nextSequence; sequence++) {
+            if (tasksBySequence[sequence] != null) {
+                liveTasks.add(tasksBySequence[sequence]);
+            }
+        }
+        if (!isInListOrder) {
+            liveTasks.sort(Comparator.comparingLong(Task::getId));
+        }
+
+        clearPostings();
+        sequences.clear();
+        tasksBySequence = new Task[Math.max(INITIAL_CAPACITY, liveTasks.size())];
+        nextSequence = 0;
+        deletedCount = 0;
+        maxIndexedId = Task.NO_ID;
+        isInListOrder = true;
+
+        for (Task task : liveTasks) {
+            add(task);
+        }
+    }
+}
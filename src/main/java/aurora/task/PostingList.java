@@ -0,0 +1,84 @@
+package aurora.task;
+
+import java.util.Arrays;
+
+/**
+ * Represents an ascending list of task sequence numbers stored in a growable int array.
+ */
+public class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] sequences = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Appends a sequence number, which must not be less than the last one.
+     * Appending the last sequence number again has no effect.
+     *
+     * @param sequence the sequence number.
+     */
+    public void append(int sequence) {
+
+        assert(size == 0 || sequence >= sequences[size - 1]) : "sequence is out of order.";
+
+        if (size > 0 && sequences[size - 1] == sequence) {
+            return;
+        }
+        if (size == sequences.length) {
+            sequences = Arrays.copyOf(sequences, size * 2);
+        }
+        sequences[size++] = sequence;
+    }
+
+    /**
+     * Gets the number of sequence numbers.
+     *
+     * @return the number of sequence numbers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the sequence number at a position.
+     *
+     * @param position the 0-based position.
+     * @return the sequence number.
+     */
+    public int get(int position) {
+        return sequences[position];
+    }
+
+    /**
+     * Finds the first position at or after a starting position holding a sequence number of at least the target.
+     * Gallops forward before binary searching, so advancing through the whole list in order costs
+     * time proportional to the number of calls rather than to the size of the list.
+     *
+     * @param from the position to start from.
+     * @param target the sequence number to look for.
+     * @return the position, or the size if every remaining sequence number is less than the target.
+     */
+    public int advanceTo(int from, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < size && sequences[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step *= 2;
+        }
+
+        high = Math.min(high, size);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sequences[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+}
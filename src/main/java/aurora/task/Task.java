@@ -1,13 +1,18 @@
 package aurora.task;
 
 /**
- * Represents a Task with a description and a done status.
+ * Represents a Task with a description, a done status and a stable ID.
+ * The ID is given by the first task list the task is added to and never changes afterwards,
+ * so it keeps referring to the same task however the list is reordered or shrunk.
  */
 public class Task {
 
+    public static final long NO_ID = 0;
+
     // Task specific fields
     protected String description;
     protected boolean isDone;
+    private long id = NO_ID;
 
     /**
      * Constructs a new Task.
@@ -22,6 +27,46 @@ public class Task {
         this.isDone = false;
     }
 
+    /**
+     * Gets the description of the task.
+     *
+     * @return the description of the task.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the ID of the task.
+     *
+     * @return the ID of the task, or NO_ID if it has not been added to a task list.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the ID of the task, which can only be done once.
+     *
+     * @param id the ID, which must be positive.
+     */
+    public void setId(long id) {
+
+        assert(id > NO_ID) : "id is not positive.";
+        assert(this.id == NO_ID) : "The task already has an ID.";
+
+        this.id = id;
+    }
+
+    /**
+     * Checks if the task is done.
+     *
+     * @return true if the task is done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Gets status icon of the task.
      *
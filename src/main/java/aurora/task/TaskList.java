@@ -1,23 +1,73 @@
 package aurora.task;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.locks.StampedLock;
 
 import aurora.exception.AuroraException;
+import aurora.util.LongHashMap;
+import aurora.util.OrderStatisticTree;
 
 /**
  * Represents a list of tasks with methods for manipulating the list.
+ * Tasks are kept in an order statistic tree, so accessing or deleting a task at any index takes O(log n) time.
+ * Tasks can also be addressed by their stable ID through a hash map, which takes O(1) time. IDs are given in
+ * increasing order as tasks are appended, so the list is always in ascending order of ID.
+ * <p>
+ * The list is safe for concurrent use. Writers are serialized by a stamped lock, and readers first run
+ * without taking it, keeping their result only if no writer ran meanwhile. A read overlapping a write may
+ * see the list half-changed, so it is retried under the read lock if it fails or turns out to be stale.
+ * Reads that walk the whole list check for writers as they go, so a torn read never runs on for long.
  */
 public class TaskList {
 
+    // How many tasks a scan visits between checks for a concurrent writer, less one
+    protected static final int STALE_CHECK_MASK = 63;
+
+    // Exception messages
+    private static final String EMPTY_LIST = "Task List is empty. Unable to run command.";
+    private static final String INVALID_ID = "No task has the ID \"#%d\".";
+    private static final String DUPLICATE_ID = "A task with the ID \"#%d\" is already in the list.";
+
     // TaskList specific fields
-    private final ArrayList<Task> taskList;
+    private final OrderStatisticTree<Task> taskList;
+    private final LongHashMap<Task> tasksById;
+    private long nextId = Task.NO_ID + 1;
+    private final KeywordIndex keywordIndex;
+    private final TrigramIndex trigramIndex;
+    private final DateIndex dateIndex;
+    private final History history = new History();
+
+    // Concurrency control, with the thread holding the write lock so that it can read without relocking
+    private final StampedLock lock = new StampedLock();
+    private Thread writingThread = null;
+    private long writeStamp = 0;
 
     /**
      * Constructs a new TaskList.
      */
     public TaskList() {
-        taskList = new ArrayList<>();
+        taskList = new OrderStatisticTree<>();
+        tasksById = new LongHashMap<>();
+        keywordIndex = new KeywordIndex();
+        trigramIndex = new TrigramIndex();
+        dateIndex = new DateIndex();
+    }
+
+    /**
+     * Constructs a new TaskList holding tasks in order, without search indexes as it is never searched.
+     *
+     * @param tasks the tasks.
+     */
+    protected TaskList(List<Task> tasks) {
+        taskList = new OrderStatisticTree<>(tasks);
+        tasksById = null;
+        keywordIndex = null;
+        trigramIndex = null;
+        dateIndex = null;
     }
 
     /**
@@ -26,7 +76,7 @@ public class TaskList {
      * @return the size of the list.
      */
     public int getSize() {
-        return taskList.size();
+        return read(stamp -> taskList.size());
     }
 
     /**
@@ -37,20 +87,171 @@ public class TaskList {
      * @throws AuroraException if the index is out of bounds.
      */
     public Task getTask(int index) throws AuroraException {
+        return read(stamp -> {
+            validateIndex(index); // throws an exception
+
+            return taskList.get(index - 1);
+        });
+    }
+
+    /**
+     * Gets the task with an ID.
+     *
+     * @param id the ID of the task to get.
+     * @return Task the task with the ID.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    public Task getTaskById(long id) throws AuroraException {
+
+        assert(tasksById != null) : "The taskList is not indexed.";
+
+        return read(stamp -> {
+            Task task = tasksById.get(id);
+            if (task == null) {
+                throw new AuroraException(String.format(INVALID_ID, id));
+            }
+
+            return task;
+        });
+    }
+
+    /**
+     * Gets the index of the task with an ID, by searching the tree in order of ID.
+     *
+     * @param id the ID of the task.
+     * @return the 1-based index of the task.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    public int getIndexById(long id) throws AuroraException {
+        return read(stamp -> {
+            getTaskById(id); // throws an exception
+
+            return taskList.indexOfKey(Task::getId, id) + 1;
+        });
+    }
 
-        validateIndex(index); // throws an exception
+    /**
+     * Gets the ID the next task added without one will be given.
+     *
+     * @return the next ID.
+     */
+    public long getNextId() {
+        return read(stamp -> nextId);
+    }
+
+    /**
+     * Makes sure IDs below a bound are never given out, so that IDs of deleted tasks are not reused.
+     *
+     * @param nextId the lowest ID that may still be given out.
+     */
+    public void reserveIds(long nextId) {
+        write(() -> {
+            this.nextId = Math.max(this.nextId, nextId);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the history of changes made to the list by commands.
+     *
+     * @return the history.
+     */
+    public History getHistory() {
+        return history;
+    }
+
+    /**
+     * Gives a task appended to the end of the list the next ID if it has none yet.
+     * A task that already has an ID keeps it, and must have a higher ID than every task added before it.
+     * Must be called while holding the write lock.
+     *
+     * @param task the task being appended.
+     */
+    protected void assignId(Task task) {
+        if (task.getId() == Task.NO_ID) {
+            task.setId(nextId);
+        }
+
+        assert(task.getId() >= nextId) : "task ID is out of order.";
 
-        return taskList.get(index - 1);
+        nextId = task.getId() + 1;
     }
 
     /**
-     * Adds a task to the list.
+     * Adds a task to the list, giving it the next ID if it has none yet.
      *
      * @param task the task to be added.
      */
     public void addToList(Task task) {
         assert(task != null) : "task is null.";
-        taskList.add(task);
+        write(() -> {
+            assignId(task);
+            taskList.add(task);
+            tasksById.put(task.getId(), task);
+
+            if (keywordIndex != null) {
+                keywordIndex.add(task);
+                trigramIndex.add(task);
+                dateIndex.add(task);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Puts a task that was deleted back into the list, at the position its ID orders it at.
+     * The task keeps its ID, unless it has none or its ID was never given out, in which case it is added
+     * as a new task.
+     *
+     * @param task the task to be put back.
+     * @throws AuroraException if a task with the same ID is already in the list.
+     */
+    public void restoreToList(Task task) throws AuroraException {
+
+        assert(task != null) : "task is null.";
+        assert(tasksById != null) : "The taskList is not indexed.";
+
+        write(() -> {
+            if (task.getId() == Task.NO_ID || task.getId() >= nextId) {
+                addToList(task);
+                return null;
+            } else if (tasksById.get(task.getId()) != null) {
+                throw new AuroraException(String.format(DUPLICATE_ID, task.getId()));
+            }
+
+            taskList.add(taskList.countKeysBelow(Task::getId, task.getId()), task);
+            tasksById.put(task.getId(), task);
+            keywordIndex.add(task);
+            trigramIndex.add(task);
+            dateIndex.add(task);
+            return null;
+        });
+    }
+
+    /**
+     * Puts several tasks that were deleted back into the list, at the positions their IDs order them at.
+     *
+     * @param tasks the tasks to be put back, in ascending order of ID.
+     * @throws AuroraException if a task with the same ID as any of the tasks is already in the list,
+     *     in which case no task is put back.
+     */
+    public void restoreToList(List<Task> tasks) throws AuroraException {
+
+        assert(tasks != null) : "tasks is null.";
+        assert(tasksById != null) : "The taskList is not indexed.";
+
+        write(() -> {
+            for (Task task : tasks) {
+                if (tasksById.get(task.getId()) != null) {
+                    throw new AuroraException(String.format(DUPLICATE_ID, task.getId()));
+                }
+            }
+
+            for (Task task : tasks) {
+                restoreToList(task);
+            }
+            return null;
+        });
     }
 
     /**
@@ -61,10 +262,61 @@ public class TaskList {
      * @throws AuroraException if the index is out of bounds.
      */
     public Task deleteFromList(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
+
+            Task task = taskList.remove(index - 1);
+            tasksById.remove(task.getId());
+            if (keywordIndex != null) {
+                keywordIndex.remove(task);
+                trigramIndex.remove(task);
+                dateIndex.remove(task);
+            }
+
+            return task;
+        });
+    }
+
+    /**
+     * Deletes several tasks from the list in one pass, closing the gaps left by all of them at once
+     * instead of shifting the later tasks once for every deletion.
+     *
+     * @param indices the 1-based indices of the tasks to be deleted, distinct and in ascending order.
+     * @return the tasks that were deleted, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is deleted.
+     */
+    public List<Task> deleteFromList(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            int[] positions = new int[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                positions[i] = indices[i] - 1;
+            }
+
+            List<Task> tasks = taskList.removeAll(positions);
+            for (Task task : tasks) {
+                tasksById.remove(task.getId());
+                if (keywordIndex != null) {
+                    keywordIndex.remove(task);
+                    trigramIndex.remove(task);
+                    dateIndex.remove(task);
+                }
+            }
 
-        validateIndex(index); // throws an exception
+            return tasks;
+        });
+    }
 
-        return taskList.remove(index - 1);
+    /**
+     * Deletes the task with an ID from the list.
+     *
+     * @param id the ID of the task to be deleted.
+     * @return task the task that was deleted.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    public Task deleteFromListById(long id) throws AuroraException {
+        return write(() -> deleteFromList(getIndexById(id)));
     }
 
     /**
@@ -74,13 +326,33 @@ public class TaskList {
      * @throws AuroraException if the index is out of bounds.
      */
     public void validateIndex(int index) throws AuroraException {
+        int size = getSize();
 
-        if (taskList.isEmpty()) {
-            throw new AuroraException("Task List is empty. Unable to run command.");
-        } else if (index < 1 || index > taskList.size()) {
+        if (size == 0) {
+            throw new AuroraException(EMPTY_LIST);
+        } else if (index < 1 || index > size) {
             throw new AuroraException("Argument provided \"" + index
-                    + "\" must be between bounds of 1 and " + taskList.size() + ".");
+                    + "\" must be between bounds of 1 and " + size + ".");
+        }
+    }
+
+    /**
+     * Validates if every one of several 1-based indices is within the bounds of the list.
+     *
+     * @param indices the 1-based indices to be validated, in ascending order.
+     * @throws AuroraException if any index is out of bounds.
+     */
+    public void validateIndices(int[] indices) throws AuroraException {
+
+        assert(indices != null) : "indices is null.";
+
+        if (indices.length == 0) {
+            return;
         }
+
+        // The indices are in order, so only the first and last can be out of bounds
+        validateIndex(indices[0]); // throws an exception
+        validateIndex(indices[indices.length - 1]); // throws an exception
     }
 
     /**
@@ -91,13 +363,14 @@ public class TaskList {
      * @throws AuroraException if the index is out of bounds.
      */
     public Task markTaskDone(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
 
-        validateIndex(index); // throws an exception
-
-        Task task = taskList.get(index - 1);
-        task.markAsDone();
+            Task task = taskList.get(index - 1);
+            task.markAsDone();
 
-        return task;
+            return task;
+        });
     }
 
     /**
@@ -108,32 +381,206 @@ public class TaskList {
      * @throws AuroraException if the index is out of bounds.
      */
     public Task unmarkTaskDone(int index) throws AuroraException {
+        return write(() -> {
+            validateIndex(index); // throws an exception
 
-        validateIndex(index); // throws an exception
+            Task task = taskList.get(index - 1);
+            task.unmarkAsDone();
 
-        Task task = taskList.get(index - 1);
-        task.unmarkAsDone();
+            return task;
+        });
+    }
 
-        return task;
+    /**
+     * Marks several tasks as done.
+     *
+     * @param indices the 1-based indices of the tasks to be marked as done, distinct and in ascending order.
+     * @return the tasks that were marked as done, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is marked.
+     */
+    public List<Task> markTasksDone(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            List<Task> tasks = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                Task task = taskList.get(index - 1);
+                task.markAsDone();
+                tasks.add(task);
+            }
 
+            return tasks;
+        });
+    }
+
+    /**
+     * Marks several tasks as not done.
+     *
+     * @param indices the 1-based indices of the tasks to be marked as not done, distinct and in ascending order.
+     * @return the tasks that were marked as not done, in order.
+     * @throws AuroraException if any index is out of bounds, in which case no task is unmarked.
+     */
+    public List<Task> unmarkTasksDone(int[] indices) throws AuroraException {
+        return write(() -> {
+            validateIndices(indices); // throws an exception
+
+            List<Task> tasks = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                Task task = taskList.get(index - 1);
+                task.unmarkAsDone();
+                tasks.add(task);
+            }
+
+            return tasks;
+        });
+    }
+
+    /**
+     * Marks the task with an ID as done.
+     *
+     * @param id the ID of the task to be marked as done.
+     * @return task the task that was marked as done.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    public Task markTaskDoneById(long id) throws AuroraException {
+        return write(() -> {
+            Task task = getTaskById(id);
+            task.markAsDone();
+
+            return task;
+        });
+    }
+
+    /**
+     * Marks the task with an ID as not done.
+     *
+     * @param id the ID of the task to be marked as not done.
+     * @return task the task that was marked as not done.
+     * @throws AuroraException if no task in the list has the ID.
+     */
+    public Task unmarkTaskDoneById(long id) throws AuroraException {
+        return write(() -> {
+            Task task = getTaskById(id);
+            task.unmarkAsDone();
+
+            return task;
+        });
     }
 
     /**
      * Gets list of tasks with a keyword in its description.
+     * Keywords of at least three characters are answered from the trigram index, and shorter keywords
+     * without whitespace from the keyword index. Any other keyword falls back to a scan.
      *
      * @param keyword the keyword to search for.
      * @return TaskList containing tasks with the keyword in its description.
      */
     public TaskList findMatchingKeyword(String keyword) {
-        TaskList newTaskListObj = new TaskList();
+        List<Task> matches = read(stamp -> {
+            if (trigramIndex != null && trigramIndex.canAnswer(keyword)) {
+                return toListOrder(trigramIndex.find(keyword), trigramIndex);
+            } else if (keywordIndex != null && keywordIndex.canAnswer(keyword)) {
+                return toListOrder(keywordIndex.find(keyword), keywordIndex);
+            }
 
-        for (Task task : taskList) {
-            if (task.hasKeyword(keyword)) {
-                newTaskListObj.addToList(task);
+            List<Task> scanned = new ArrayList<>();
+            int visited = 0;
+            for (Task task : taskList) {
+                if ((++visited & STALE_CHECK_MASK) == 0 && isStale(stamp)) {
+                    break;
+                }
+                if (task.hasKeyword(keyword)) {
+                    scanned.add(task);
+                }
             }
+
+            return scanned;
+        });
+
+        return new TaskList(matches);
+    }
+
+    /**
+     * Sorts tasks found in an index into list order, if the index may have found them out of order.
+     *
+     * @param tasks the tasks found.
+     * @param index the index the tasks were found in.
+     * @return the tasks, in list order.
+     */
+    private static List<Task> toListOrder(List<Task> tasks, PostingIndex index) {
+        if (!index.isInListOrder()) {
+            tasks.sort(Comparator.comparingLong(Task::getId));
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Gets list of tasks with a date range overlapping a period, in order of their start.
+     * Deadlines overlap when they are due within the period.
+     * Unlike other reads this always takes the read lock, as the date index is searched recursively and
+     * a torn search could overflow the stack before it noticed a writer.
+     *
+     * @param from the start of the period.
+     * @param to the end of the period.
+     * @return TaskList containing tasks within the period.
+     */
+    public TaskList findWithinPeriod(LocalDateTime from, LocalDateTime to) {
+
+        assert(dateIndex != null) : "The taskList is not indexed.";
+
+        if (writingThread == Thread.currentThread()) {
+            return new TaskList(dateIndex.findOverlapping(from, to));
+        }
+
+        long stamp = lock.readLock();
+        try {
+            return new TaskList(dateIndex.findOverlapping(from, to));
+        } finally {
+            lock.unlockRead(stamp);
         }
+    }
 
-        return newTaskListObj;
+    /**
+     * Gets a snapshot of the tasks in the list, in order.
+     *
+     * @return a new list holding the tasks.
+     */
+    public List<Task> getTasks() {
+        return getTasks(1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets a snapshot of a slice of the tasks in the list, in order.
+     * The slice is found in O(log n) time, so getting a slice anywhere in the list costs about as much as
+     * the tasks in it.
+     *
+     * @param fromIndex the 1-based index of the first task of the slice.
+     * @param count the greatest number of tasks in the slice.
+     * @return a new list holding the tasks, which is empty if the index is past the end of the list.
+     */
+    public List<Task> getTasks(int fromIndex, int count) {
+
+        assert(fromIndex >= 1) : "fromIndex is less than 1.";
+        assert(count >= 0) : "count is negative.";
+
+        return read(stamp -> {
+            int size = taskList.size();
+            List<Task> tasks = new ArrayList<>(Math.min(count, Math.max(0, size - fromIndex + 1)));
+            if (fromIndex > size) {
+                return tasks;
+            }
+
+            Iterator<Task> iterator = taskList.iterator(fromIndex - 1);
+            while (tasks.size() < count && iterator.hasNext()) {
+                if ((tasks.size() & STALE_CHECK_MASK) == STALE_CHECK_MASK && isStale(stamp)) {
+                    break;
+                }
+                tasks.add(iterator.next());
+            }
+
+            return tasks;
+        });
     }
 
     /**
@@ -142,30 +589,146 @@ public class TaskList {
      * @return the list of string representation of tasks in file format.
      */
     public List<String> toFileFormat() {
-        List<String> lines = new ArrayList<>();
+        // Formatted within the read so that the done status of every task is from the same moment
+        return read(stamp -> {
+            List<String> lines = new ArrayList<>();
 
-        for (Task task : taskList) {
-            lines.add(task.toFileFormat());
-        }
+            for (Task task : getTasks()) {
+                lines.add(task.toFileFormat());
+            }
 
-        return lines;
+            return lines;
+        });
     }
 
     /**
-     * Gets taskList in display string representation.
+     * Gets taskList in display string representation, with the ID of each task after its index.
      *
      * @return the list of string representation of tasks in display format.
      */
     @Override
     public String toString() {
-        StringBuilder listString = new StringBuilder();
+        return toString(1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets a slice of taskList in display string representation, formatting only the tasks in the slice.
+     *
+     * @param fromIndex the 1-based index of the first task of the slice.
+     * @param count the greatest number of tasks in the slice.
+     * @return the string representation of the tasks in the slice in display format, numbered by their index.
+     */
+    public String toString(int fromIndex, int count) {
+        return read(stamp -> {
+            StringBuilder listString = new StringBuilder();
+
+            int i = fromIndex;
+            for (Task task : getTasks(fromIndex, count)) {
+                listString.append(i++).append(". #").append(task.getId()).append(" ").append(task).append("\n");
+            }
+            if (listString.length() > 0) {
+                listString.delete(listString.length() - 1, listString.length());
+            }
+
+            return listString.toString();
+        });
+    }
 
-        for (int i = 1; i <= taskList.size(); i++) {
-            listString.append(i).append(". ").append(taskList.get(i - 1).toString()).append("\n");
+    /**
+     * Runs a read of the list, first without locking and then under the read lock if a writer interfered.
+     * The read must not change anything, and may see the list half-changed when run without locking.
+     * A thread holding the write lock runs the read directly.
+     *
+     * @param reader the read, given the stamp to check with {@link #isStale(long)}.
+     * @param <T> the type of the result.
+     * @param <X> the type of exception the read may throw.
+     * @return the result of the read.
+     * @throws X if the read throws an exception while no writer is running.
+     *     Any other exception or error thrown while a writer ran is discarded and the read retried under the lock.
+     */
+    protected <T, X extends Exception> T read(Read<T, X> reader) throws X {
+        if (writingThread == Thread.currentThread()) {
+            return reader.read(writeStamp);
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.read(stamp);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (Exception | Error e) {
+                // Only a failure of a read no writer interfered with is real, as a torn read may throw anything
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
         }
-        listString.delete(listString.length() - 1, listString.length());
 
-        return listString.toString();
+        stamp = lock.readLock();
+        try {
+            return reader.read(stamp);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a change to the list under the write lock, so that no other writer runs at the same time.
+     * The change may itself read or change the list without locking again.
+     *
+     * @param writer the change.
+     * @param <T> the type of the result.
+     * @param <X> the type of exception the change may throw.
+     * @return the result of the change.
+     * @throws X if the change throws an exception.
+     */
+    protected <T, X extends Exception> T write(Write<T, X> writer) throws X {
+        if (writingThread == Thread.currentThread()) {
+            return writer.write();
+        }
+
+        long stamp = lock.writeLock();
+        writingThread = Thread.currentThread();
+        writeStamp = stamp;
+        try {
+            return writer.write();
+        } finally {
+            writingThread = null;
+            lock.unlockWrite(stamp);
+        }
     }
 
+    /**
+     * Checks if a writer has run since a read started, in which case the read should stop early.
+     *
+     * @param stamp the stamp the read was given.
+     * @return true if the read is stale.
+     */
+    protected boolean isStale(long stamp) {
+        return !lock.validate(stamp);
+    }
+
+    /**
+     * Represents a read of the list that may be run more than once.
+     *
+     * @param <T> the type of the result.
+     * @param <X> the type of exception the read may throw.
+     */
+    @FunctionalInterface
+    protected interface Read<T, X extends Exception> {
+        T read(long stamp) throws X;
+    }
+
+    /**
+     * Represents a change to the list.
+     *
+     * @param <T> the type of the result.
+     * @param <X> the type of exception the change may throw.
+     */
+    @FunctionalInterface
+    protected interface Write<T, X extends Exception> {
+        T write() throws X;
+    }
 }
@@ -0,0 +1,131 @@
+package aurora.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import aurora.util.LongHashMap;
+
+/**
+ * Represents an inverted index from every three-character substring of task descriptions to the tasks
+ * containing it. Any description containing a keyword contains every trigram of the keyword, so
+ * intersecting the keyword's posting lists narrows the search to a few candidates, which are then
+ * checked with {@link Task#hasKeyword(String)} to keep exactly the same results as a full scan.
+ */
+public class TrigramIndex extends PostingIndex {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    // Trigrams are packed into longs, so that they can be looked up without boxing
+    private final LongHashMap<PostingList> postings = new LongHashMap<>();
+
+    /**
+     * Checks if the index can answer a keyword.
+     *
+     * @param keyword the keyword to search for.
+     * @return true if the keyword has at least one trigram.
+     */
+    public boolean canAnswer(String keyword) {
+        return keyword.length() >= TRIGRAM_LENGTH;
+    }
+
+    /**
+     * Gets the tasks whose description contains a keyword, in task list order.
+     *
+     * @param keyword the keyword, which must be answerable by {@link #canAnswer(String)}.
+     * @return the matching tasks.
+     */
+    public List<Task> find(String keyword) {
+
+        assert(canAnswer(keyword)) : "keyword is shorter than a trigram.";
+
+        List<PostingList> postingLists = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= keyword.length(); i++) {
+            PostingList trigramPostings = postings.get(getTrigram(keyword, i));
+            if (trigramPostings == null) {
+                return new ArrayList<>();
+            }
+            if (!postingLists.contains(trigramPostings)) {
+                postingLists.add(trigramPostings);
+            }
+        }
+
+        // Drive the intersection from the shortest list, skipping through the others
+        postingLists.sort(Comparator.comparingInt(PostingList::size));
+        PostingList shortest = postingLists.get(0);
+        int[] cursors = new int[postingLists.size()];
+        List<Task> matches = new ArrayList<>();
+
+        for (int i = 0; i < shortest.size(); i++) {
+            int sequence = shortest.get(i);
+            if (isInEveryList(sequence, postingLists, cursors)) {
+                Task task = getTask(sequence);
+                if (task != null && task.hasKeyword(keyword)) {
+                    matches.add(task);
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Checks if a sequence number is in every posting list but the first, advancing each list's cursor.
+     *
+     * @param sequence the sequence number.
+     * @param postingLists the posting lists.
+     * @param cursors the position reached in each posting list, updated in place.
+     * @return true if every posting list holds the sequence number.
+     */
+    private boolean isInEveryList(int sequence, List<PostingList> postingLists, int[] cursors) {
+        for (int j = 1; j < postingLists.size(); j++) {
+            PostingList postings = postingLists.get(j);
+            cursors[j] = postings.advanceTo(cursors[j], sequence);
+            if (cursors[j] == postings.size() || postings.get(cursors[j]) != sequence) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends a sequence number to the posting list of every trigram of a description.
+     * A trigram repeated within the description is only posted once, since appending the last
+     * sequence number again has no effect.
+     *
+     * @param description the description of the task.
+     * @param sequence the sequence number of the task.
+     */
+    @Override
+    protected void addPostings(String description, int sequence) {
+        for (int i = 0; i + TRIGRAM_LENGTH <= description.length(); i++) {
+            long trigram = getTrigram(description, i);
+            PostingList trigramPostings = postings.get(trigram);
+            if (trigramPostings == null) {
+                trigramPostings = new PostingList();
+                postings.put(trigram, trigramPostings);
+            }
+            trigramPostings.append(sequence);
+        }
+    }
+
+    /**
+     * Removes every posting list.
+     */
+    @Override
+    protected void clearPostings() {
+        postings.clear();
+    }
+
+    /**
+     * Packs the three characters starting at an index into a long.
+     *
+     * @param text the text.
+     * @param start the index of the first character.
+     * @return the packed trigram.
+     */
+    private static long getTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
@@ -0,0 +1,252 @@
+package aurora.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Represents a utility class that parses date times and converts them to and from epoch minutes.
+ * Task date times have minute precision and no time zone, so they are treated as UTC.
+ */
+public class DateTimeUtil {
+
+    // Returned by the parse methods when the input is not a valid date time
+    public static final long INVALID_EPOCH_MINUTE = Long.MIN_VALUE;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    // Layout of "d/M/yyyy HHmm"
+    private static final char DATE_SEPARATOR = '/';
+    private static final char TIME_SEPARATOR = ' ';
+    private static final int YEAR_DIGITS = 4;
+    private static final int MAX_FIELD_DIGITS = 19;
+    private static final int MAX_YEAR = 999_999_999;
+
+    /**
+     * Constructs a new DateTimeUtil.
+     */
+    private DateTimeUtil() {}
+
+    /**
+     * Converts a date time into minutes since the epoch.
+     *
+     * @param dateTime the date time to convert.
+     * @return the number of minutes since 1/1/1970 0000.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+
+        assert(dateTime != null) : "dateTime is null.";
+
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Converts minutes since the epoch into a date time.
+     *
+     * @param epochMinute the number of minutes since 1/1/1970 0000.
+     * @return the corresponding date time.
+     */
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses a date time in the "d/M/yyyy HHmm" layout into minutes since the epoch, without allocating.
+     * Accepts exactly what {@code DateTimeFormatter.ofPattern("d/M/yyyy HHmm")} accepts with its default
+     * smart resolution: a day past the end of a 30-day month or February becomes the month's last day,
+     * and 2400 becomes midnight of the next day.
+     *
+     * @param text the text holding the date time.
+     * @param start the index at which the date time starts.
+     * @param end the index after the end of the date time.
+     * @return the number of minutes since 1/1/1970 0000, or {@link #INVALID_EPOCH_MINUTE} if invalid.
+     */
+    public static long parseEpochMinute(CharSequence text, int start, int end) {
+
+        assert(text != null) : "text is null.";
+
+        return parseEpochMinute(text, null, start, end);
+    }
+
+    /**
+     * Parses a date time in the "d/M/yyyy HHmm" layout from ASCII bytes into minutes since the epoch,
+     * without allocating.
+     *
+     * @param bytes the bytes holding the date time.
+     * @param start the index at which the date time starts.
+     * @param end the index after the end of the date time.
+     * @return the number of minutes since 1/1/1970 0000, or {@link #INVALID_EPOCH_MINUTE} if invalid.
+     * @see #parseEpochMinute(CharSequence, int, int)
+     */
+    public static long parseEpochMinute(byte[] bytes, int start, int end) {
+
+        assert(bytes != null) : "bytes is null.";
+
+        return parseEpochMinute(null, bytes, start, end);
+    }
+
+    /**
+     * Parses a date time from either characters or bytes, validating it digit by digit.
+     *
+     * @param text the text holding the date time, or null to read from bytes.
+     * @param bytes the bytes holding the date time, or null to read from text.
+     * @param start the index at which the date time starts.
+     * @param end the index after the end of the date time.
+     * @return the number of minutes since 1/1/1970 0000, or {@link #INVALID_EPOCH_MINUTE} if invalid.
+     */
+    private static long parseEpochMinute(CharSequence text, byte[] bytes, int start, int end) {
+        int index = start;
+
+        // Day and month are one or more digits, each ended by a slash
+        int dayEnd = skipDigits(text, bytes, index, end);
+        long day = readNumber(text, bytes, index, dayEnd);
+        if (day == -1 || dayEnd >= end || charAt(text, bytes, dayEnd) != DATE_SEPARATOR) {
+            return INVALID_EPOCH_MINUTE;
+        }
+        index = dayEnd + 1;
+
+        int monthEnd = skipDigits(text, bytes, index, end);
+        long month = readNumber(text, bytes, index, monthEnd);
+        if (month == -1 || monthEnd >= end || charAt(text, bytes, monthEnd) != DATE_SEPARATOR) {
+            return INVALID_EPOCH_MINUTE;
+        }
+        index = monthEnd + 1;
+
+        // Year is exactly four digits, or a plus sign followed by more than four digits
+        boolean hasPlusSign = index < end && charAt(text, bytes, index) == '+';
+        if (hasPlusSign) {
+            index++;
+        }
+        int yearEnd = skipDigits(text, bytes, index, end);
+        int yearDigits = yearEnd - index;
+        if (hasPlusSign ? yearDigits <= YEAR_DIGITS : yearDigits != YEAR_DIGITS) {
+            return INVALID_EPOCH_MINUTE;
+        }
+        long year = readNumber(text, bytes, index, yearEnd);
+        index = yearEnd;
+
+        // Time is a space followed by exactly four digits
+        if (end - index != 5 || charAt(text, bytes, index) != TIME_SEPARATOR
+                || skipDigits(text, bytes, index + 1, end) != end) {
+            return INVALID_EPOCH_MINUTE;
+        }
+        long hour = readNumber(text, bytes, index + 1, index + 3);
+        long minute = readNumber(text, bytes, index + 3, end);
+
+        if (year < 1 || year > MAX_YEAR || month < 1 || month > 12 || day < 1 || day > 31
+                || minute > 59 || hour > 24 || (hour == 24 && minute != 0)
+                || (hour == 24 && year == MAX_YEAR && month == 12 && day == 31)) {
+            return INVALID_EPOCH_MINUTE;
+        }
+
+        long lastDay = getMonthLength((int) year, (int) month);
+        long epochDay = toEpochDay(year, month, Math.min(day, lastDay));
+        return epochDay * MINUTES_PER_DAY + hour * 60 + minute;
+    }
+
+    /**
+     * Skips a run of ASCII digits.
+     *
+     * @param text the text, or null to read from bytes.
+     * @param bytes the bytes, or null to read from text.
+     * @param index the index to start from.
+     * @param end the index at which to stop.
+     * @return the index of the first non-digit, or end.
+     */
+    private static int skipDigits(CharSequence text, byte[] bytes, int index, int end) {
+        while (index < end && isDigit(charAt(text, bytes, index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Reads a run of ASCII digits as a number.
+     * Values too large for any field are capped rather than overflowing, since they are rejected anyway.
+     *
+     * @param text the text, or null to read from bytes.
+     * @param bytes the bytes, or null to read from text.
+     * @param start the index of the first digit.
+     * @param end the index after the last digit.
+     * @return the number, or -1 if there are no digits or more than a formatter would read.
+     */
+    private static long readNumber(CharSequence text, byte[] bytes, int start, int end) {
+        if (start == end || end - start > MAX_FIELD_DIGITS) {
+            return -1;
+        }
+
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = Math.min(value * 10 + (charAt(text, bytes, i) - '0'), MAX_YEAR + 1L);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the character at an index of either the text or the bytes.
+     *
+     * @param text the text, or null to read from bytes.
+     * @param bytes the bytes, or null to read from text.
+     * @param index the index.
+     * @return the character.
+     */
+    private static char charAt(CharSequence text, byte[] bytes, int index) {
+        return text != null ? text.charAt(index) : (char) (bytes[index] & 0xFF);
+    }
+
+    /**
+     * Checks if a character is an ASCII digit.
+     *
+     * @param c the character.
+     * @return true if the character is between '0' and '9'.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Gets the number of days in a month.
+     *
+     * @param year the year.
+     * @param month the month, from 1 to 12.
+     * @return the number of days in the month.
+     */
+    private static int getMonthLength(int year, int month) {
+        switch (month) {
+        case 2:
+            boolean isLeap = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+            return isLeap ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Converts a valid date into days since the epoch, as {@code LocalDate.toEpochDay()} does.
+     *
+     * @param year the year.
+     * @param month the month, from 1 to 12.
+     * @param day the day of the month.
+     * @return the number of days since 1/1/1970.
+     */
+    private static long toEpochDay(long year, long month, long day) {
+        long total = 365 * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (getMonthLength((int) year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
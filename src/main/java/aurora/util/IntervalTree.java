@@ -0,0 +1,269 @@
+package aurora.util;
+
+import java.util.List;
+
+/**
+ * Represents a set of closed intervals backed by an AVL tree ordered by interval start.
+ * Every node records the latest end in its subtree, so finding the intervals that overlap a query
+ * skips any subtree that ends too early and takes O(log n + k) time for k results.
+ * Intervals with the same start are told apart by a caller-supplied tiebreak, which must be unique.
+ *
+ * @param <E> the type of the values held by the intervals.
+ */
+public class IntervalTree<E> {
+
+    private Node<E> root = null;
+
+    /**
+     * Gets the number of intervals.
+     *
+     * @return the number of intervals.
+     */
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Adds an interval.
+     *
+     * @param start the start of the interval.
+     * @param end the end of the interval, not before the start.
+     * @param tiebreak a number unique to this interval among those with the same start.
+     * @param value the value held by the interval.
+     */
+    public void add(long start, long end, long tiebreak, E value) {
+
+        assert(start <= end) : "start is after end.";
+
+        root = insert(root, new Node<>(start, end, tiebreak, value));
+    }
+
+    /**
+     * Removes an interval.
+     *
+     * @param start the start of the interval.
+     * @param tiebreak the tiebreak the interval was added with.
+     * @return true if the interval was found and removed.
+     */
+    public boolean remove(long start, long tiebreak) {
+        int sizeBefore = size();
+        root = remove(root, start, tiebreak);
+        return size() < sizeBefore;
+    }
+
+    /**
+     * Finds the values of the intervals overlapping a closed query interval, in order of start.
+     *
+     * @param from the start of the query interval.
+     * @param to the end of the query interval.
+     * @param results the list to add the values to.
+     */
+    public void findOverlapping(long from, long to, List<E> results) {
+
+        assert(results != null) : "results is null.";
+
+        findOverlapping(root, from, to, results);
+    }
+
+    /**
+     * Finds the values of the intervals in a subtree overlapping a query interval.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @param from the start of the query interval.
+     * @param to the end of the query interval.
+     * @param results the list to add the values to.
+     */
+    private void findOverlapping(Node<E> node, long from, long to, List<E> results) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+
+        findOverlapping(node.left, from, to, results);
+
+        // Every interval to the right starts later still
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            results.add(node.value);
+        }
+
+        findOverlapping(node.right, from, to, results);
+    }
+
+    /**
+     * Inserts a node into a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @param newNode the node to insert.
+     * @return the new root of the subtree.
+     */
+    private Node<E> insert(Node<E> node, Node<E> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (compare(newNode.start, newNode.tiebreak, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Removes a node from a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @param start the start of the interval to remove.
+     * @param tiebreak the tiebreak of the interval to remove.
+     * @return the new root of the subtree.
+     */
+    private Node<E> remove(Node<E> node, long start, long tiebreak) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = compare(start, tiebreak, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, tiebreak);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, tiebreak);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the node with the next interval, which is the first of the right subtree
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = remove(node.right, successor.start, successor.tiebreak);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Compares an interval key against the key of a node.
+     *
+     * @param start the start of the interval.
+     * @param tiebreak the tiebreak of the interval.
+     * @param node the node.
+     * @return a negative number, zero or a positive number if the interval orders before, with or after the node.
+     */
+    private static int compare(long start, long tiebreak, Node<?> node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : Long.compare(tiebreak, node.tiebreak);
+    }
+
+    /**
+     * Restores the AVL balance of a node whose subtrees differ in height by at most two.
+     *
+     * @param node the node.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rebalance(Node<E> node) {
+        update(node);
+
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     *
+     * @param node the root of the subtree, which must have a right child.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     *
+     * @param node the root of the subtree, which must have a left child.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Recomputes the height, size and latest end of a node from its children.
+     *
+     * @param node the node.
+     */
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + (node.left == null ? 0 : node.left.size) + (node.right == null ? 0 : node.right.size);
+        node.maxEnd = node.end;
+        if (node.left != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.right.maxEnd);
+        }
+    }
+
+    /**
+     * Gets the height of a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @return the height, which is 0 for an empty subtree.
+     */
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Represents a node holding one interval and the height, size and latest end of its subtree.
+     */
+    private static class Node<E> {
+        private final long start;
+        private final long end;
+        private final long tiebreak;
+        private final E value;
+        private Node<E> left = null;
+        private Node<E> right = null;
+        private int height = 1;
+        private int size = 1;
+        private long maxEnd;
+
+        private Node(long start, long end, long tiebreak, E value) {
+            this.start = start;
+            this.end = end;
+            this.tiebreak = tiebreak;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package aurora.util;
+
+import java.util.Arrays;
+
+/**
+ * Represents a hash map from primitive long keys to non-null values.
+ * Keys are stored unboxed in an open-addressing table with linear probing, so lookups and updates
+ * take O(1) expected time without allocating.
+ *
+ * @param <V> the type of the values.
+ */
+public class LongHashMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_LOAD_PERCENT = 60;
+
+    // A slot is empty when its value is null
+    private long[] keys;
+    private Object[] values;
+    private int size = 0;
+
+    /**
+     * Constructs a new LongHashMap.
+     */
+    public LongHashMap() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key the key.
+     * @return the value, or null if the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int mask = keys.length - 1;
+
+        // The probe is bounded by the table size, so a read racing a rehash never loops on a full-looking table
+        int slot = hash(key) & mask;
+        for (int probes = 0; probes <= mask && values[slot] != null; probes++) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key the key.
+     * @param value the value, which must not be null.
+     * @return the previous value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+
+        assert(value != null) : "value is null.";
+
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 100 > keys.length * MAX_LOAD_PERCENT) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key.
+     * @return the removed value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return null;
+        }
+
+        V removed = (V) values[slot];
+        values[slot] = null;
+        size--;
+
+        // Shift later entries of the probe run back so that lookups never stop early at the gap
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            boolean canFillGap = ((next - home) & mask) >= ((next - gap) & mask);
+            if (canFillGap) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                values[next] = null;
+                gap = next;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Moves every entry into a table of a new capacity.
+     *
+     * @param capacity the new capacity, a power of two.
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of a key so that sequential keys do not cluster.
+     *
+     * @param key the key.
+     * @return the hash.
+     */
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
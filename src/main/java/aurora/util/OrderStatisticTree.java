@@ -0,0 +1,532 @@
+package aurora.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Represents a list backed by an AVL tree keyed by position.
+ * Every node records the size of its subtree, so getting, inserting and removing the element at any
+ * 0-based index take O(log n) time, instead of shifting every later element as an array list does.
+ * A lookup racing a change may see the tree half-rotated, so every descent is bounded by the greatest
+ * height an AVL tree of any int size can have, and fails rather than looping on a transient cycle.
+ *
+ * @param <E> the type of the elements.
+ */
+public class OrderStatisticTree<E> implements Iterable<E> {
+
+    // An AVL tree is at most about 1.44 log2(n) high, which is below this for any int size
+    private static final int MAX_HEIGHT = 64;
+
+    private Node<E> root = null;
+
+    /**
+     * Constructs a new empty OrderStatisticTree.
+     */
+    public OrderStatisticTree() {}
+
+    /**
+     * Constructs a new OrderStatisticTree holding elements in order, building a balanced tree in O(n) time.
+     *
+     * @param elements the elements.
+     */
+    public OrderStatisticTree(List<? extends E> elements) {
+
+        assert(elements != null) : "elements is null.";
+
+        root = build(elements, 0, elements.size());
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return the number of elements.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Checks if there are no elements.
+     *
+     * @return true if there are no elements.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Gets the element at an index.
+     *
+     * @param index the 0-based index of the element.
+     * @return the element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public E get(int index) {
+        return findNode(index).value;
+    }
+
+    /**
+     * Finds the index of the element with a key, in a tree whose elements are in ascending order of key.
+     *
+     * @param keyExtractor the function giving the key of an element.
+     * @param key the key to look for.
+     * @return the 0-based index of the element, or -1 if no element has the key.
+     */
+    public int indexOfKey(ToLongFunction<? super E> keyExtractor, long key) {
+
+        assert(keyExtractor != null) : "keyExtractor is null.";
+
+        Node<E> node = root;
+        int index = 0;
+        int depth = 0;
+        while (node != null) {
+            checkDepth(++depth);
+            long nodeKey = keyExtractor.applyAsLong(node.value);
+            if (key < nodeKey) {
+                node = node.left;
+            } else if (key > nodeKey) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the elements with a key below a key, in a tree whose elements are in ascending order of key.
+     * This is the index at which an element with the key would be inserted to keep the order.
+     *
+     * @param keyExtractor the function giving the key of an element.
+     * @param key the key to compare against.
+     * @return the number of elements with a lower key.
+     */
+    public int countKeysBelow(ToLongFunction<? super E> keyExtractor, long key) {
+
+        assert(keyExtractor != null) : "keyExtractor is null.";
+
+        Node<E> node = root;
+        int count = 0;
+        int depth = 0;
+        while (node != null) {
+            checkDepth(++depth);
+            if (keyExtractor.applyAsLong(node.value) < key) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Replaces the element at an index.
+     *
+     * @param index the 0-based index of the element.
+     * @param element the new element.
+     * @return the element previously at the index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public E set(int index, E element) {
+        Node<E> node = findNode(index);
+        E previous = node.value;
+        node.value = element;
+        return previous;
+    }
+
+    /**
+     * Appends an element to the end.
+     *
+     * @param element the element to append.
+     */
+    public void add(E element) {
+        root = insert(root, size(root), element);
+    }
+
+    /**
+     * Inserts an element at an index, shifting the element at the index and any later elements back by one.
+     *
+     * @param index the 0-based index to insert at, up to the size.
+     * @param element the element to insert.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size(root) + 1);
+        root = insert(root, index, element);
+    }
+
+    /**
+     * Removes the element at an index, shifting any later elements forward by one.
+     *
+     * @param index the 0-based index of the element.
+     * @return the removed element.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public E remove(int index) {
+        E element = get(index);
+        root = remove(root, index);
+        return element;
+    }
+
+    /**
+     * Removes the elements at several indices, shifting the remaining elements forward to close the gaps.
+     * A few removals are made one at a time in O(k log n) time, while larger ones keep the survivors in a
+     * single in-order pass and rebuild a balanced tree from them in O(n) time.
+     *
+     * @param indices the 0-based indices of the elements, distinct and in ascending order.
+     * @return the removed elements, in order.
+     * @throws IndexOutOfBoundsException if an index is out of bounds.
+     */
+    public List<E> removeAll(int[] indices) {
+
+        assert(indices != null) : "indices is null.";
+
+        int size = size(root);
+        List<E> removed = new ArrayList<>(indices.length);
+        if (indices.length == 0) {
+            return removed;
+        }
+        Objects.checkIndex(indices[0], size);
+        Objects.checkIndex(indices[indices.length - 1], size);
+
+        int height = 32 - Integer.numberOfLeadingZeros(size);
+        if ((long) indices.length * height < size) {
+            // Removing from the back keeps the earlier indices valid
+            for (int i = indices.length - 1; i >= 0; i--) {
+                removed.add(remove(indices[i]));
+            }
+            Collections.reverse(removed);
+            return removed;
+        }
+
+        List<E> kept = new ArrayList<>(size - indices.length);
+        int next = 0;
+        int index = 0;
+        for (E element : this) {
+            if (next < indices.length && indices[next] == index) {
+                removed.add(element);
+                next++;
+            } else {
+                kept.add(element);
+            }
+            index++;
+        }
+
+        root = build(kept, 0, kept.size());
+        return removed;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Copies the elements, in order, into a new list.
+     *
+     * @return a new list holding the elements.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        for (E element : this) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Gets an iterator over the elements in order, taking O(log n) extra space.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root, 0);
+    }
+
+    /**
+     * Gets an iterator over the elements in order starting from an index, which is positioned in O(log n) time.
+     *
+     * @param fromIndex the 0-based index of the first element to iterate over, which may be the size.
+     * @return the iterator.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public Iterator<E> iterator(int fromIndex) {
+        Objects.checkIndex(fromIndex, size(root) + 1);
+        return new InOrderIterator<>(root, fromIndex);
+    }
+
+    /**
+     * Builds a perfectly balanced subtree from a range of elements.
+     *
+     * @param elements the elements.
+     * @param start the index of the first element of the range.
+     * @param end the index after the last element of the range.
+     * @return the root of the subtree, or null if the range is empty.
+     */
+    private Node<E> build(List<? extends E> elements, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+
+        int middle = (start + end) >>> 1;
+        Node<E> node = new Node<>(elements.get(middle));
+        node.left = build(elements, start, middle);
+        node.right = build(elements, middle + 1, end);
+        update(node);
+        return node;
+    }
+
+    /**
+     * Finds the node at an index.
+     *
+     * @param index the 0-based index of the node.
+     * @return the node.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private Node<E> findNode(int index) {
+        Objects.checkIndex(index, size(root));
+
+        Node<E> node = root;
+        int depth = 0;
+        while (true) {
+            checkDepth(++depth);
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Inserts an element into a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @param index the 0-based index within the subtree to insert at.
+     * @param element the element to insert.
+     * @return the new root of the subtree.
+     */
+    private Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            node.left = insert(node.left, index, element);
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, element);
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Removes an element from a subtree.
+     *
+     * @param node the root of the subtree.
+     * @param index the 0-based index within the subtree of the element to remove.
+     * @return the new root of the subtree.
+     */
+    private Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = remove(node.left, index);
+        } else if (index > leftSize) {
+            node.right = remove(node.right, index - leftSize - 1);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Take the place of the next element, which is the first element of the right subtree
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = remove(node.right, 0);
+        }
+
+        return rebalance(node);
+    }
+
+    /**
+     * Restores the AVL balance of a node whose subtrees differ in height by at most two.
+     *
+     * @param node the node.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rebalance(Node<E> node) {
+        update(node);
+
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     *
+     * @param node the root of the subtree, which must have a right child.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     *
+     * @param node the root of the subtree, which must have a left child.
+     * @return the new root of the subtree.
+     */
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Recomputes the height and size of a node from its children.
+     *
+     * @param node the node.
+     */
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Checks that a descent has not gone deeper than any valid tree allows.
+     *
+     * @param depth the number of nodes visited on the way down.
+     * @throws ConcurrentModificationException if the descent is too deep, as the tree changed during it.
+     */
+    private static void checkDepth(int depth) {
+        if (depth > MAX_HEIGHT) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Gets the height of a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @return the height, which is 0 for an empty subtree.
+     */
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Gets the number of elements in a subtree.
+     *
+     * @param node the root of the subtree, or null if empty.
+     * @return the number of elements.
+     */
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Represents a node holding one element and the height and size of its subtree.
+     */
+    private static class Node<E> {
+        private E value;
+        private Node<E> left = null;
+        private Node<E> right = null;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(E value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Represents an in-order traversal that keeps the path to the next node on a stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root, int fromIndex) {
+            // Keep every node on the way down to the first element that the traversal has yet to visit
+            Node<E> node = root;
+            int index = fromIndex;
+            while (node != null) {
+                checkDepth(path.size() + 1);
+                int leftSize = size(node.left);
+                if (index <= leftSize) {
+                    path.push(node);
+                    node = index == leftSize ? null : node.left;
+                } else {
+                    index -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Node<E> node = path.pop();
+            pushLeftPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftPath(Node<E> node) {
+            while (node != null) {
+                checkDepth(path.size() + 1);
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
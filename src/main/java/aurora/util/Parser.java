@@ -1,8 +1,7 @@
 package aurora.util;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,18 +9,26 @@ import aurora.command.AddDeadlineCommand;
 import aurora.command.AddDoWithinPeriodCommand;
 import aurora.command.AddEventCommand;
 import aurora.command.AddToDoCommand;
+import aurora.command.AgendaCommand;
+import aurora.command.BetweenCommand;
 import aurora.command.ByeCommand;
 import aurora.command.Command;
+import aurora.command.ConflictsCommand;
 import aurora.command.DeleteCommand;
 import aurora.command.FindCommand;
 import aurora.command.ListCommand;
 import aurora.command.MarkCommand;
+import aurora.command.RedoCommand;
+import aurora.command.RunCommand;
+import aurora.command.UndoCommand;
 import aurora.command.UnmarkCommand;
 import aurora.exception.AuroraException;
+import aurora.io.Storage;
 import aurora.task.Deadline;
 import aurora.task.DoWithinPeriod;
 import aurora.task.Event;
 import aurora.task.Task;
+import aurora.task.TaskList;
 import aurora.task.ToDo;
 
 /**
@@ -29,11 +36,12 @@ import aurora.task.ToDo;
  */
 public class Parser {
 
+    public static final String TASK_ID_PREFIX = "#";
+
     private static final String UNKNOWN_COMMAND = "Unknown command: %s";
     private static final String FILE_TASK_MARKED = "1";
-
-    // Expected input format of date time
-    private static final DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+    private static final String FIELD_SEPARATOR = " | ";
+    private static final String START_OF_DAY_TIME = " 0000";
 
     // The singleton instance
     private static final Parser SINGLETON = new Parser();
@@ -62,39 +70,268 @@ public class Parser {
         List<Task> parsedTaskList = new ArrayList<>();
 
         for (String line : lines) {
-            String[] parts = line.split(" \\| ");
-            Task task;
-
-            // Assumption: data has not been maliciously manipulated
-            switch (parts[0]) {
-            case ToDo.TASK_KEYWORD:
-                task = new ToDo(parts[2]);
-                break;
-            case Deadline.TASK_KEYWORD:
-                task = new Deadline(parts[2], parseDateTime(parts[3]));
-                break;
-            case Event.TASK_KEYWORD:
-                task = new Event(parts[2], parseDateTime(parts[3]), parseDateTime(parts[4]));
-                break;
-            case DoWithinPeriod.TASK_KEYWORD:
-                task = new DoWithinPeriod(parts[2], parseDateTime(parts[3]), parseDateTime(parts[4]));
-                break;
-            default:
+            Task task = parseTaskRecord(line);
+
+            if (task != null) {
+                parsedTaskList.add(task);
+            }
+        }
+
+        return parsedTaskList;
+    }
+
+    /**
+     * Parses a single line of the task list file into a task.
+     *
+     * @param line the line of the task list file.
+     * @return the task, or null if the line is not a task record.
+     */
+    public Task parseTaskRecord(String line) {
+
+        assert(line != null) : "line is null.";
+
+        return parseTaskRecord(line, 0);
+    }
+
+    /**
+     * Parses the task record starting at an offset of a line in a single pass.
+     * Fields are located with plain index scans for the separator rather than a regex split,
+     * so only the description is copied out of the line.
+     *
+     * @param line the line holding the record.
+     * @param recordStart the index at which the record starts.
+     * @return the task, or null if the record is not a task record.
+     */
+    private Task parseTaskRecord(String line, int recordStart) {
+        int typeEnd = findFieldEnd(line, recordStart);
+        int statusStart = typeEnd + FIELD_SEPARATOR.length();
+        if (typeEnd == line.length()) {
+            return null;
+        }
+
+        int statusEnd = findFieldEnd(line, statusStart);
+        int descriptionStart = statusEnd + FIELD_SEPARATOR.length();
+        if (statusEnd == line.length()) {
+            return null;
+        }
+
+        int descriptionEnd = findFieldEnd(line, descriptionStart);
+        int firstDateStart = descriptionEnd + FIELD_SEPARATOR.length();
+        int firstDateEnd = firstDateStart > line.length() ? line.length() : findFieldEnd(line, firstDateStart);
+        int secondDateStart = firstDateEnd + FIELD_SEPARATOR.length();
+        int secondDateEnd = secondDateStart > line.length() ? line.length() : findFieldEnd(line, secondDateStart);
+
+        String description = line.substring(descriptionStart, descriptionEnd);
+        Task task;
+
+        // Assumption: data has not been maliciously manipulated
+        if (isField(line, recordStart, typeEnd, ToDo.TASK_KEYWORD)) {
+            task = new ToDo(description);
+
+        } else if (isField(line, recordStart, typeEnd, Deadline.TASK_KEYWORD)
+                && firstDateStart <= line.length()) {
+            task = new Deadline(description, parseDateTime(line, firstDateStart, firstDateEnd));
+
+        } else if (isField(line, recordStart, typeEnd, Event.TASK_KEYWORD)
+                && secondDateStart <= line.length()) {
+            task = new Event(description, parseDateTime(line, firstDateStart, firstDateEnd),
+                    parseDateTime(line, secondDateStart, secondDateEnd));
+
+        } else if (isField(line, recordStart, typeEnd, DoWithinPeriod.TASK_KEYWORD)
+                && secondDateStart <= line.length()) {
+            task = new DoWithinPeriod(description, parseDateTime(line, firstDateStart, firstDateEnd),
+                    parseDateTime(line, secondDateStart, secondDateEnd));
+
+        } else {
+            return null;
+        }
+
+        if (isField(line, statusStart, statusEnd, FILE_TASK_MARKED)) {
+            task.markAsDone();
+        }
+
+        return task;
+    }
+
+    /**
+     * Finds the end of the field starting at an index.
+     *
+     * @param line the line holding the field.
+     * @param fieldStart the index at which the field starts.
+     * @return the index of the next field separator, or the length of the line if there is none.
+     */
+    private int findFieldEnd(String line, int fieldStart) {
+        int separatorIndex = line.indexOf(FIELD_SEPARATOR, fieldStart);
+        return separatorIndex == -1 ? line.length() : separatorIndex;
+    }
+
+    /**
+     * Checks if the field between two indices is exactly the expected value, without copying it.
+     *
+     * @param line the line holding the field.
+     * @param fieldStart the index at which the field starts.
+     * @param fieldEnd the index after the end of the field.
+     * @param expected the expected value.
+     * @return true if the field equals the expected value.
+     */
+    private boolean isField(String line, int fieldStart, int fieldEnd, String expected) {
+        return fieldEnd - fieldStart == expected.length()
+                && line.regionMatches(fieldStart, expected, 0, expected.length());
+    }
+
+    /**
+     * Replays journal records onto the task list, in order.
+     * Added tasks carry their ID as "#id | task record", and mutations refer to their task by "#id".
+     * Records written before tasks had IDs refer to tasks by 1-based index instead.
+     * Records that are malformed or no longer apply are skipped.
+     *
+     * @param records the journal records in the form "OPERATION | argument".
+     * @param taskList the task list to apply the records to.
+     */
+    public void replayJournal(List<String> records, TaskList taskList) {
+
+        assert(records != null) : "records is null.";
+        assert(taskList != null) : "taskList is null.";
+
+        for (String record : records) {
+            int operationEnd = record.indexOf(FIELD_SEPARATOR);
+            int argumentStart = operationEnd + FIELD_SEPARATOR.length();
+            if (operationEnd == -1) {
                 continue;
             }
 
-            parsedTaskList.add(task);
+            try {
+                boolean hasId = record.startsWith(TASK_ID_PREFIX, argumentStart);
+                if (isField(record, 0, operationEnd, Storage.JOURNAL_ADD)) {
+                    replayAddition(record, argumentStart, hasId, taskList);
+                } else if (isField(record, 0, operationEnd, Storage.JOURNAL_RESTORE)) {
+                    replayRestoration(record, argumentStart, taskList);
+                } else if (isField(record, 0, operationEnd, Storage.JOURNAL_DELETE)) {
+                    int index = hasId ? taskList.getIndexById(parseJournalId(record, argumentStart, record.length()))
+                            : Integer.parseInt(record, argumentStart, record.length(), 10);
+                    taskList.deleteFromList(index);
+                } else if (isField(record, 0, operationEnd, Storage.JOURNAL_MARK)) {
+                    if (hasId) {
+                        taskList.markTaskDoneById(parseJournalId(record, argumentStart, record.length()));
+                    } else {
+                        taskList.markTaskDone(Integer.parseInt(record, argumentStart, record.length(), 10));
+                    }
+                } else if (isField(record, 0, operationEnd, Storage.JOURNAL_UNMARK)) {
+                    if (hasId) {
+                        taskList.unmarkTaskDoneById(parseJournalId(record, argumentStart, record.length()));
+                    } else {
+                        taskList.unmarkTaskDone(Integer.parseInt(record, argumentStart, record.length(), 10));
+                    }
+                }
+            } catch (AuroraException | RuntimeException e) {
+                // Assumption: only a torn final record can be malformed, so it is safe to skip
+            }
+        }
+    }
+
+    /**
+     * Replays a journal record adding a task, keeping the task's ID if the record has one.
+     *
+     * @param record the journal record.
+     * @param argumentStart the index at which the argument of the record starts.
+     * @param hasId whether the argument starts with the task's ID.
+     * @param taskList the task list to add the task to.
+     */
+    private void replayAddition(String record, int argumentStart, boolean hasId, TaskList taskList) {
+        int recordStart = argumentStart;
+        long id = Task.NO_ID;
+        if (hasId) {
+            int idEnd = record.indexOf(FIELD_SEPARATOR, argumentStart);
+            id = parseJournalId(record, argumentStart, idEnd);
+            recordStart = idEnd + FIELD_SEPARATOR.length();
+        }
+
+        // A task whose ID was already given out cannot be added again without breaking ID order
+        Task task = parseTaskRecord(record, recordStart);
+        if (task == null || (hasId && id < taskList.getNextId())) {
+            return;
+        }
+        if (hasId) {
+            task.setId(id);
+        }
+        taskList.addToList(task);
+    }
+
+    /**
+     * Replays a journal record putting a deleted task back into the list under its ID.
+     *
+     * @param record the journal record.
+     * @param argumentStart the index at which the argument of the record starts, which is the task's ID.
+     * @param taskList the task list to put the task back into.
+     * @throws AuroraException if a task with the ID is already in the list.
+     */
+    private void replayRestoration(String record, int argumentStart, TaskList taskList) throws AuroraException {
+        int idEnd = record.indexOf(FIELD_SEPARATOR, argumentStart);
+        long id = parseJournalId(record, argumentStart, idEnd);
+
+        Task task = parseTaskRecord(record, idEnd + FIELD_SEPARATOR.length());
+        if (task == null) {
+            return;
+        }
+        task.setId(id);
+        taskList.restoreToList(task);
+    }
+
+    /**
+     * Parses the "#id" task ID of a journal record without copying it.
+     *
+     * @param record the journal record.
+     * @param start the index of the ID prefix.
+     * @param end the index after the last digit of the ID.
+     * @return the task ID.
+     */
+    private long parseJournalId(String record, int start, int end) {
+        return Long.parseLong(record, start + TASK_ID_PREFIX.length(), end, 10);
+    }
 
-            if (parts[1].equals(FILE_TASK_MARKED)) {
-                task.markAsDone();
+    /**
+     * Checks if a string is a task ID in the form "#id", by scanning its digits instead of catching an exception.
+     *
+     * @param input the string to check.
+     * @return true if the string is a positive task ID that fits in a long.
+     */
+    public boolean isTaskId(String input) {
+
+        assert(input != null) : "input is null.";
+
+        int prefixLength = TASK_ID_PREFIX.length();
+        if (!input.startsWith(TASK_ID_PREFIX) || input.length() == prefixLength) {
+            return false;
+        }
+
+        long value = 0;
+        for (int index = prefixLength; index < input.length(); index++) {
+            int digit = Character.digit(input.charAt(index), 10);
+            if (digit < 0 || value > (Long.MAX_VALUE - digit) / 10) {
+                return false;
             }
+            value = value * 10 + digit;
         }
 
-        return parsedTaskList;
+        return value > Task.NO_ID;
     }
 
     /**
-     * Checks if a string can be parsed into an integer.
+     * Parses a task ID in the form "#id".
+     *
+     * @param input the string to parse, which must be a task ID as checked by {@link #isTaskId(String)}.
+     * @return the task ID.
+     */
+    public long parseTaskId(String input) {
+
+        assert(isTaskId(input)) : "input is not a task ID.";
+
+        return Long.parseLong(input, TASK_ID_PREFIX.length(), input.length(), 10);
+    }
+
+    /**
+     * Checks if a string can be parsed into an integer, by scanning its digits instead of catching an exception.
+     * Accepts exactly what {@link Integer#parseInt(String)} accepts.
      *
      * @param input the string to check.
      * @return true if the string can be parsed into an integer.
@@ -103,12 +340,26 @@ public class Parser {
 
         assert(input != null) : "input is null.";
 
-        try {
-            Integer.parseInt(input);
-        } catch (NumberFormatException e) {
+        int index = 0;
+        boolean isNegative = false;
+        if (!input.isEmpty() && (input.charAt(0) == '-' || input.charAt(0) == '+')) {
+            isNegative = input.charAt(0) == '-';
+            index++;
+        }
+        if (index == input.length()) {
             return false;
         }
 
+        long limit = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; index < input.length(); index++) {
+            int digit = Character.digit(input.charAt(index), 10);
+            value = value * 10 + digit;
+            if (digit < 0 || value > limit) {
+                return false;
+            }
+        }
+
         return true;
     }
 
@@ -122,11 +373,41 @@ public class Parser {
 
         assert(input != null) : "input is null.";
 
-        try {
-            return LocalDateTime.parse(input, inputFormat);
-        } catch (DateTimeParseException e) {
+        return parseDateTime(input, 0, input.length());
+    }
+
+    /**
+     * Parses part of a character sequence into a LocalDateTime object, without copying it.
+     *
+     * @param input the character sequence holding the date time.
+     * @param start the index at which the date time starts.
+     * @param end the index after the end of the date time.
+     * @return LocalDateTime if the range can be parsed into a LocalDateTime object, or null otherwise.
+     */
+    public LocalDateTime parseDateTime(CharSequence input, int start, int end) {
+
+        assert(input != null) : "input is null.";
+
+        long epochMinute = DateTimeUtil.parseEpochMinute(input, start, end);
+        if (epochMinute == DateTimeUtil.INVALID_EPOCH_MINUTE) {
             return null;
         }
+
+        return DateTimeUtil.fromEpochMinute(epochMinute);
+    }
+
+    /**
+     * Parses a string into a LocalDate object, in the date part of the format of {@link #parseDateTime(String)}.
+     *
+     * @param input the string to parse, e.g. "2/12/2019".
+     * @return the date, or null if the string is not a valid date.
+     */
+    public LocalDate parseDate(String input) {
+
+        assert(input != null) : "input is null.";
+
+        LocalDateTime startOfDay = parseDateTime(input + START_OF_DAY_TIME);
+        return startOfDay == null ? null : startOfDay.toLocalDate();
     }
 
     /**
@@ -174,6 +455,24 @@ public class Parser {
         case DeleteCommand.CMD_KEYWORD:
             command = new DeleteCommand();
             break;
+        case BetweenCommand.CMD_KEYWORD:
+            command = new BetweenCommand();
+            break;
+        case AgendaCommand.CMD_KEYWORD:
+            command = new AgendaCommand();
+            break;
+        case ConflictsCommand.CMD_KEYWORD:
+            command = new ConflictsCommand();
+            break;
+        case RunCommand.CMD_KEYWORD:
+            command = new RunCommand();
+            break;
+        case UndoCommand.CMD_KEYWORD:
+            command = new UndoCommand();
+            break;
+        case RedoCommand.CMD_KEYWORD:
+            command = new RedoCommand();
+            break;
         default:
             String message = String.format(UNKNOWN_COMMAND, trimmedInput);
             throw new AuroraException(message);
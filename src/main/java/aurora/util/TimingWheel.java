@@ -0,0 +1,175 @@
+package aurora.util;
+
+import java.util.List;
+
+/**
+ * Represents a hashed timing wheel of timers, each identified by a unique key and due at a tick.
+ * Every timer is kept in the slot of its tick modulo the number of slots, in a doubly linked list, and
+ * found by its key through a hash map, so scheduling and cancelling a timer take O(1) expected time.
+ * Advancing the wheel by one tick only visits the timers in one slot, and timers due further than one
+ * rotation ahead stay in their slot until their tick comes round.
+ * The wheel is not safe for concurrent use.
+ *
+ * @param <E> the type of the values held by the timers.
+ */
+public class TimingWheel<E> {
+
+    private final Node<E>[] slots;
+    private final int slotMask;
+    private final LongHashMap<Node<E>> nodesByKey = new LongHashMap<>();
+    private long currentTick;
+
+    /**
+     * Constructs a new TimingWheel.
+     *
+     * @param slotCount the number of slots, which must be a power of two.
+     * @param currentTick the tick the wheel starts at, at which timers are already due.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(int slotCount, long currentTick) {
+
+        assert(slotCount > 0 && Integer.bitCount(slotCount) == 1) : "slotCount is not a power of two.";
+
+        this.slots = (Node<E>[]) new Node[slotCount];
+        this.slotMask = slotCount - 1;
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Gets the number of timers.
+     *
+     * @return the number of timers.
+     */
+    public int size() {
+        return nodesByKey.size();
+    }
+
+    /**
+     * Gets the tick the wheel has advanced to.
+     *
+     * @return the current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Schedules a timer, replacing any timer with the same key.
+     * A timer due at or before the current tick is due at the next tick instead.
+     *
+     * @param key the key of the timer.
+     * @param tick the tick the timer is due at.
+     * @param value the value held by the timer.
+     */
+    public void schedule(long key, long tick, E value) {
+
+        assert(value != null) : "value is null.";
+
+        cancel(key);
+
+        Node<E> node = new Node<>(key, Math.max(tick, currentTick + 1), value);
+        int slot = (int) (node.tick & slotMask);
+        node.next = slots[slot];
+        if (node.next != null) {
+            node.next.previous = node;
+        }
+        slots[slot] = node;
+        nodesByKey.put(key, node);
+    }
+
+    /**
+     * Cancels a timer.
+     *
+     * @param key the key of the timer.
+     * @return true if the timer was found and cancelled.
+     */
+    public boolean cancel(long key) {
+        Node<E> node = nodesByKey.remove(key);
+        if (node == null) {
+            return false;
+        }
+
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Advances the wheel to a tick, removing every timer due at or before it.
+     * The values of the timers are added in order of tick, unless the wheel is advanced by more than one
+     * rotation at once, in which case every slot is visited once and the order is by slot.
+     *
+     * @param tick the tick to advance to.
+     * @param expired the list to add the values of the timers that are due to.
+     */
+    public void advance(long tick, List<E> expired) {
+
+        assert(expired != null) : "expired is null.";
+
+        if (tick <= currentTick) {
+            return;
+        }
+
+        // Each slot only needs visiting once, however far behind the wheel has fallen
+        long slotsToVisit = Math.min(tick - currentTick, slots.length);
+        for (long i = 1; i <= slotsToVisit; i++) {
+            expireSlot((int) ((currentTick + i) & slotMask), tick, expired);
+        }
+
+        currentTick = tick;
+    }
+
+    /**
+     * Removes every timer in a slot that is due at or before a tick.
+     *
+     * @param slot the slot.
+     * @param tick the tick.
+     * @param expired the list to add the values of the timers that are due to.
+     */
+    private void expireSlot(int slot, long tick, List<E> expired) {
+        Node<E> node = slots[slot];
+        while (node != null) {
+            Node<E> next = node.next;
+            if (node.tick <= tick) {
+                nodesByKey.remove(node.key);
+                unlink(node);
+                expired.add(node.value);
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * Unlinks a node from the list of its slot.
+     *
+     * @param node the node.
+     */
+    private void unlink(Node<E> node) {
+        if (node.previous != null) {
+            node.previous.next = node.next;
+        } else {
+            slots[(int) (node.tick & slotMask)] = node.next;
+        }
+        if (node.next != null) {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+    }
+
+    /**
+     * Represents a timer in the list of a slot.
+     */
+    private static class Node<E> {
+        private final long key;
+        private final long tick;
+        private final E value;
+        private Node<E> previous;
+        private Node<E> next;
+
+        private Node(long key, long tick, E value) {
+            this.key = key;
+            this.tick = tick;
+            this.value = value;
+        }
+    }
+}
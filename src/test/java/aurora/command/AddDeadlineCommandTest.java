@@ -7,10 +7,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.OutputStub;
 import aurora.io.Storage;
 import aurora.io.StorageStub;
-import aurora.io.Ui;
-import aurora.io.UiStub;
 import aurora.task.TaskList;
 
 public class AddDeadlineCommandTest extends AddCommand {
@@ -24,8 +24,7 @@ public class AddDeadlineCommandTest extends AddCommand {
         addDeadlineCommand = new AddDeadlineCommand();
         taskList = new TaskList();
         storage = StorageStub.of();
-        Ui ui = new UiStub();
-        Ui.setUiSingleton(ui);
+        Output.setSingleton(new OutputStub());
     }
 
     @Test
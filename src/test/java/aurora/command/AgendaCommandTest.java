@@ -0,0 +1,108 @@
+package aurora.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.OutputStub;
+import aurora.io.StorageStub;
+import aurora.task.ColumnarTaskList;
+import aurora.task.Deadline;
+import aurora.task.Event;
+import aurora.task.TaskList;
+import aurora.task.ToDo;
+import aurora.util.Parser;
+
+public class AgendaCommandTest {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d yyyy");
+
+    @BeforeEach
+    public void setUp() {
+        Output.setSingleton(new OutputStub());
+    }
+
+    @Test
+    public void execute_agendaOnDate_listsPendingTasksOnThatDay() throws AuroraException {
+        LocalDate day = LocalDate.of(2019, 12, 2);
+        TaskList taskList = new TaskList();
+        taskList.addToList(new ToDo("borrow book"));
+        taskList.addToList(new Deadline("return book", day.atTime(18, 0)));
+        taskList.addToList(new Deadline("pay fine", day.atTime(9, 0)));
+        taskList.addToList(new Deadline("renew card", day.plusDays(1).atTime(0, 0)));
+        taskList.markTaskDone(3);
+
+        execute("agenda 2/12/2019", taskList);
+
+        assertEquals(DAY_FORMAT.format(day) + ":\n#2 [D][ ] return book (by: Dec 2 2019 6:00pm)",
+                OutputStub.getLastMsg());
+    }
+
+    @Test
+    public void execute_agendaToday_listsTasksDueToday() throws AuroraException {
+        LocalDate today = LocalDate.now();
+        TaskList taskList = new TaskList();
+        taskList.addToList(new Deadline("return book", today.atTime(12, 0)));
+
+        execute("agenda", taskList);
+
+        assertTrue(OutputStub.getLastMsg().startsWith(DAY_FORMAT.format(today) + ":\n#1 "));
+    }
+
+    @Test
+    public void execute_agendaWeek_multiDayEventListedUnderEachDay() throws AuroraException {
+        for (TaskList taskList : new TaskList[] {new TaskList(), new ColumnarTaskList()}) {
+            LocalDate today = LocalDate.now();
+            taskList.addToList(new Event("camp", today.plusDays(1).atTime(10, 0),
+                    today.plusDays(3).atTime(9, 0)));
+            taskList.addToList(new Deadline("done already", today.plusDays(2).atTime(12, 0)));
+            taskList.addToList(new Deadline("last day", today.plusDays(6).atTime(23, 59)));
+            taskList.addToList(new Deadline("next week", today.plusDays(7).atTime(0, 0)));
+            taskList.markTaskDone(2);
+
+            execute("agenda week", taskList);
+
+            String agenda = OutputStub.getLastMsg();
+            assertFalse(agenda.contains(DAY_FORMAT.format(today) + ":"));
+            for (int i = 1; i <= 3; i++) {
+                assertTrue(agenda.contains(DAY_FORMAT.format(today.plusDays(i)) + ":\n#1 "));
+            }
+            assertEquals(3, agenda.split("#1 ", -1).length - 1);
+            assertTrue(agenda.contains(DAY_FORMAT.format(today.plusDays(6)) + ":\n#3 "));
+            assertFalse(agenda.contains("#2 "));
+            assertFalse(agenda.contains("#4 "));
+        }
+    }
+
+    @Test
+    public void execute_agendaWeekWithNothingDue_nothingDueMessage() throws AuroraException {
+        LocalDate today = LocalDate.now();
+        TaskList taskList = new TaskList();
+        taskList.addToList(new ToDo("borrow book"));
+        taskList.addToList(new Deadline("yesterday", today.minusDays(1).atTime(12, 0)));
+
+        execute("agenda week", taskList);
+
+        assertEquals("Nothing is due from " + DAY_FORMAT.format(today) + " to "
+                + DAY_FORMAT.format(today.plusDays(6)) + ".", OutputStub.getLastMsg());
+    }
+
+    @Test
+    public void parseCommand_invalidDate_throwsAuroraException() {
+        assertThrows(AuroraException.class, () -> Parser.of().parseCommand("agenda 32/13/2019"));
+        assertThrows(AuroraException.class, () -> Parser.of().parseCommand("agenda tomorrow"));
+    }
+
+    private void execute(String input, TaskList taskList) throws AuroraException {
+        Parser.of().parseCommand(input).execute(taskList, StorageStub.of());
+    }
+}
@@ -0,0 +1,67 @@
+package aurora.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.OutputStub;
+import aurora.io.StorageStub;
+import aurora.task.TaskList;
+import aurora.task.ToDo;
+
+public class CommandExecutorTest {
+
+    @Test
+    public void submit_manyInputs_executedInOrderUntilBye() throws AuroraException {
+        Output.setSingleton(new OutputStub());
+        TaskList taskList = new TaskList();
+        CommandExecutor commandExecutor = new CommandExecutor(taskList, StorageStub.of());
+
+        for (int i = 1; i <= 200; i++) {
+            commandExecutor.submit("todo task " + i);
+            if (i % 3 == 0) {
+                commandExecutor.submit("mark " + i);
+            }
+        }
+        commandExecutor.submit("mark 999");
+        commandExecutor.submit("bye");
+        commandExecutor.submit("todo after bye");
+        assertTrue(commandExecutor.shutdown());
+
+        assertEquals(200, taskList.getSize());
+        for (int i = 1; i <= 200; i++) {
+            assertEquals("task " + i, taskList.getTask(i).getDescription());
+            assertEquals(i % 3 == 0, taskList.getTask(i).isDone());
+        }
+    }
+
+    @Test
+    public void submit_inputsDuringSlowLoad_executedAfterLoad() throws AuroraException {
+        Output.setSingleton(new OutputStub());
+        TaskList taskList = new TaskList();
+        CommandExecutor commandExecutor = new CommandExecutor(taskList, StorageStub.of());
+
+        commandExecutor.submitJob(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 1; i <= 100; i++) {
+                taskList.addToList(new ToDo("loaded " + i));
+            }
+        });
+        commandExecutor.submit("mark 100");
+        commandExecutor.submit("delete 1");
+        commandExecutor.submit("todo typed during load");
+        assertTrue(commandExecutor.shutdown());
+
+        assertEquals(100, taskList.getSize());
+        assertEquals("loaded 2", taskList.getTask(1).getDescription());
+        assertTrue(taskList.getTask(99).isDone());
+        assertEquals("typed during load", taskList.getTask(100).getDescription());
+    }
+}
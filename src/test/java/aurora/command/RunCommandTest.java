@@ -0,0 +1,93 @@
+package aurora.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.OutputStub;
+import aurora.io.StorageStub;
+import aurora.task.Task;
+import aurora.task.TaskList;
+import aurora.util.Parser;
+
+public class RunCommandTest {
+
+    @Test
+    public void execute_fileWithBadLines_runsEveryOtherLine() throws AuroraException, IOException {
+        Output.setSingleton(new OutputStub());
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            lines.add("todo task " + i);
+        }
+        lines.add("");
+        lines.add("mark 2");
+        lines.add("mark 0");
+        lines.add("delete 1");
+        lines.add("bye");
+        lines.add("unknown command");
+        lines.add("deadline return book /by notADate");
+
+        Path file = Files.createTempFile("aurora-run", ".txt");
+        try {
+            Files.write(file, lines);
+            TaskList taskList = new TaskList();
+            Parser.of().parseCommand("run " + file).execute(taskList, StorageStub.of());
+
+            assertEquals(299, taskList.getSize());
+            assertEquals("task 2", taskList.getTask(1).getDescription());
+            assertTrue(taskList.getTask(1).isDone());
+            assertFalse(taskList.getTask(2).isDone());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void execute_missingFile_throwsAuroraException() throws AuroraException {
+        Output.setSingleton(new OutputStub());
+        Command command = Parser.of().parseCommand("run no/such/file.txt");
+
+        assertThrows(AuroraException.class, () -> command.execute(new TaskList(), StorageStub.of()));
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_restRunAndPersisted() throws AuroraException, IOException {
+        Output.setSingleton(new OutputStub());
+        TaskList taskList = new TaskList() {
+            @Override
+            public Task markTaskDone(int index) throws AuroraException {
+                throw new IllegalStateException("broken");
+            }
+        };
+        List<List<Task>> overwrites = new ArrayList<>();
+        StorageStub storage = new StorageStub() {
+            @Override
+            public void overwriteTaskListFile(List<Task> tasks, long nextTaskId) {
+                overwrites.add(tasks);
+            }
+        };
+
+        Path file = Files.createTempFile("aurora-run", ".txt");
+        try {
+            Files.write(file, List.of("todo first", "mark 1", "todo second"));
+            Parser.of().parseCommand("run " + file).execute(taskList, storage);
+
+            assertEquals(2, taskList.getSize());
+            assertEquals(1, overwrites.size());
+            assertEquals(2, overwrites.get(0).size());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
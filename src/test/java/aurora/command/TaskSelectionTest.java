@@ -0,0 +1,92 @@
+package aurora.command;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+import aurora.io.Output;
+import aurora.io.OutputStub;
+import aurora.io.StorageStub;
+import aurora.task.TaskList;
+import aurora.task.ToDo;
+import aurora.util.Parser;
+
+public class TaskSelectionTest {
+
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() {
+        Output.setSingleton(new OutputStub());
+        taskList = new TaskList();
+        for (int i = 1; i <= 50; i++) {
+            taskList.addToList(new ToDo(i % 10 == 0 ? "read book " + i : "task " + i));
+        }
+    }
+
+    @Test
+    public void isSelection_listsRangesAndFilters() {
+        assertTrue(TaskSelection.isSelection("3,8"));
+        assertTrue(TaskSelection.isSelection("20-40"));
+        assertTrue(TaskSelection.isSelection("/done"));
+        assertFalse(TaskSelection.isSelection("3"));
+        assertFalse(TaskSelection.isSelection("-3"));
+    }
+
+    @Test
+    public void resolve_listAndRanges_sortedAndDistinct() throws AuroraException {
+        assertArrayEquals(new int[] {3, 8, 20, 21, 22}, TaskSelection.parse("3,8,20-22").resolve(taskList));
+        assertArrayEquals(new int[] {2, 3, 4, 5, 6, 9}, TaskSelection.parse("9, 4-6,2-5").resolve(taskList));
+    }
+
+    @Test
+    public void parse_malformedSelections_throwAuroraException() {
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("20-3"));
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("3,a"));
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("/find"));
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("/find   "));
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("/all"));
+    }
+
+    @Test
+    public void resolve_outOfBounds_throwsAuroraException() throws AuroraException {
+        TaskSelection pastEnd = TaskSelection.parse("45-51");
+        TaskSelection zero = TaskSelection.parse("0,1");
+
+        assertThrows(AuroraException.class, () -> pastEnd.resolve(taskList));
+        assertThrows(AuroraException.class, () -> zero.resolve(taskList));
+    }
+
+    @Test
+    public void resolve_filters_selectMatchingTasks() throws AuroraException {
+        assertThrows(AuroraException.class, () -> TaskSelection.parse("/done").resolve(taskList));
+
+        taskList.markTaskDone(7);
+        taskList.markTaskDone(31);
+        assertArrayEquals(new int[] {7, 31}, TaskSelection.parse("/done").resolve(taskList));
+        assertArrayEquals(new int[] {10, 20, 30, 40, 50}, TaskSelection.parse("/find read book").resolve(taskList));
+    }
+
+    @Test
+    public void execute_bulkCommands_changeSelectedTasks() throws AuroraException {
+        Parser parser = Parser.of();
+        parser.parseCommand("mark 1-5,10").execute(taskList, StorageStub.of());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 10}, TaskSelection.parse("/done").resolve(taskList));
+
+        parser.parseCommand("unmark 4-10").execute(taskList, StorageStub.of());
+        assertArrayEquals(new int[] {1, 2, 3}, TaskSelection.parse("/done").resolve(taskList));
+
+        parser.parseCommand("delete /done").execute(taskList, StorageStub.of());
+        assertEquals(47, taskList.getSize());
+        assertEquals("task 4", taskList.getTask(1).getDescription());
+
+        parser.parseCommand("delete /find read book").execute(taskList, StorageStub.of());
+        assertEquals(42, taskList.getSize());
+    }
+}
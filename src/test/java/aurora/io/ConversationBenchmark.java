@@ -0,0 +1,159 @@
+package aurora.io;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.Image;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * Compares the frame time of scrolling through a 10k-message conversation shown as a VBox of dialog boxes,
+ * as Aurora used to, against the virtualized ListView. Needs a display, as it opens a window for each view.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.io.ConversationBenchmark".
+ */
+public class ConversationBenchmark {
+
+    private static final int MESSAGE_COUNT = 10_000;
+    private static final int MEASURED_FRAMES = 300;
+    private static final double WIDTH = 400;
+    private static final double HEIGHT = 557;
+
+    private static Image userImage;
+    private static Image auroraImage;
+
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch isStarted = new CountDownLatch(1);
+        Platform.startup(isStarted::countDown);
+        isStarted.await();
+
+        userImage = new Image(ConversationBenchmark.class.getResourceAsStream("/images/DaUser.png"));
+        auroraImage = new Image(ConversationBenchmark.class.getResourceAsStream("/images/DaDuke.png"));
+
+        System.out.printf("%d messages, scrolled from top to bottom over %d frames%n", MESSAGE_COUNT, MEASURED_FRAMES);
+        System.out.printf("%-20s %10s %10s %12s %12s%n", "view", "build ms", "nodes", "mean frame", "worst frame");
+        measure("VBox of DialogBoxes", ConversationBenchmark::createVBoxView);
+        measure("ListView", ConversationBenchmark::createListView);
+
+        Platform.exit();
+    }
+
+    /**
+     * Shows a view in a window and times the frames while scrolling it through the whole conversation.
+     *
+     * @param name the name of the view.
+     * @param viewFactory sets a view of the conversation onto a stage and returns a way to scroll it to a
+     *     position between 0 and 1.
+     */
+    private static void measure(String name, Function<Stage, DoubleConsumer> viewFactory)
+            throws InterruptedException {
+        CountDownLatch isDone = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            Stage stage = new Stage();
+            long start = System.nanoTime();
+            DoubleConsumer scroller = viewFactory.apply(stage);
+            stage.show();
+            long buildNanos = System.nanoTime() - start;
+
+            new AnimationTimer() {
+                private long previousPulse = 0;
+                private long totalFrameNanos = 0;
+                private long worstFrameNanos = 0;
+                private int frame = 0;
+
+                @Override
+                public void handle(long now) {
+                    if (previousPulse != 0) {
+                        totalFrameNanos += now - previousPulse;
+                        worstFrameNanos = Math.max(worstFrameNanos, now - previousPulse);
+                    }
+                    previousPulse = now;
+
+                    if (frame == MEASURED_FRAMES) {
+                        stop();
+                        System.out.printf("%-20s %10d %10d %9.2f ms %9.2f ms%n", name, buildNanos / 1_000_000,
+                                countNodes(stage.getScene().getRoot()), totalFrameNanos / 1e6 / (frame - 1),
+                                worstFrameNanos / 1e6);
+                        stage.close();
+                        isDone.countDown();
+                        return;
+                    }
+
+                    scroller.accept((double) frame / (MEASURED_FRAMES - 1));
+                    frame++;
+                }
+            }.start();
+        });
+
+        isDone.await();
+    }
+
+    /**
+     * Shows the conversation as one dialog box per message in a VBox.
+     */
+    private static DoubleConsumer createVBoxView(Stage stage) {
+        VBox dialogContainer = new VBox();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            dialogContainer.getChildren().add(i % 2 == 0
+                    ? DialogBox.getUserDialog(generateText(i), userImage)
+                    : DialogBox.getAuroraDialog(generateText(i), auroraImage));
+        }
+
+        ScrollPane scrollPane = new ScrollPane(dialogContainer);
+        scrollPane.setFitToWidth(true);
+        stage.setScene(new Scene(scrollPane, WIDTH, HEIGHT));
+        return scrollPane::setVvalue;
+    }
+
+    /**
+     * Shows the conversation in a ListView that renders only the visible messages.
+     */
+    private static DoubleConsumer createListView(Stage stage) {
+        ObservableList<Message> messages = FXCollections.observableArrayList();
+        Conversation conversation = new Conversation(messages, MESSAGE_COUNT);
+        ListView<Message> dialogList = new ListView<>(messages);
+        dialogList.setCellFactory(listView -> new MessageCell(listView, userImage, auroraImage));
+
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            conversation.add(i % 2 == 0 ? Message.fromUser(generateText(i)) : Message.fromAurora(generateText(i)));
+        }
+
+        stage.setScene(new Scene(dialogList, WIDTH, HEIGHT));
+        return position -> dialogList.scrollTo((int) (position * (MESSAGE_COUNT - 1)));
+    }
+
+    /**
+     * Generates a message of one to several lines, like a command and the listing it prints.
+     */
+    private static String generateText(int i) {
+        StringBuilder text = new StringBuilder("message " + i);
+        for (int line = 0; line < i % 5; line++) {
+            text.append('\n').append(line + 1).append(". #").append(i).append(" [T][ ] task number ").append(i);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Counts the nodes of a scene graph.
+     */
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
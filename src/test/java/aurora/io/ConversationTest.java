@@ -0,0 +1,29 @@
+package aurora.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ConversationTest {
+
+    @Test
+    public void add_pastScrollbackLimit_evictsOldestMessages() {
+        List<Message> messages = new ArrayList<>();
+        Conversation conversation = new Conversation(messages, 3);
+
+        for (int i = 0; i < 5; i++) {
+            conversation.add(i % 2 == 0 ? Message.fromUser("message " + i) : Message.fromAurora("message " + i));
+        }
+
+        assertEquals(3, conversation.size());
+        assertEquals("message 2", messages.get(0).getText());
+        assertEquals("message 4", messages.get(2).getText());
+        assertTrue(messages.get(2).isFromUser());
+        assertFalse(messages.get(1).isFromUser());
+    }
+}
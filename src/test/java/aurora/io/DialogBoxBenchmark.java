@@ -0,0 +1,144 @@
+package aurora.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntFunction;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Measures how many messages per second can be added to the UI when each dialog box is loaded from FXML,
+ * as Aurora used to, against dialog boxes built in code and a single dialog box reused as a ListView cell.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.io.DialogBoxBenchmark".
+ */
+public class DialogBoxBenchmark {
+
+    private static final int MESSAGE_COUNT = 5_000;
+    private static final int ROUNDS = 5;
+
+    // The FXML dialog boxes used to be loaded from, with each load parsing it again
+    private static final String DIALOG_BOX_FXML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.geometry.Insets?>\n"
+            + "<?import javafx.scene.control.Label?>\n"
+            + "<?import javafx.scene.image.ImageView?>\n"
+            + "<?import javafx.scene.layout.HBox?>\n"
+            + "<fx:root alignment=\"TOP_RIGHT\" maxHeight=\"1.7976931348623157E308\""
+            + " maxWidth=\"1.7976931348623157E308\" prefWidth=\"400.0\" type=\"javafx.scene.layout.HBox\""
+            + " xmlns=\"http://javafx.com/javafx/17\" xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "<children>\n"
+            + "<Label fx:id=\"dialog\" text=\"Label\" wrapText=\"true\" minHeight=\"-Infinity\"/>\n"
+            + "<ImageView fx:id=\"displayPicture\" fitHeight=\"99.0\" fitWidth=\"99.0\" pickOnBounds=\"true\""
+            + " preserveRatio=\"true\" />\n"
+            + "</children>\n"
+            + "<padding><Insets bottom=\"15.0\" left=\"5.0\" right=\"5.0\" top=\"15.0\" /></padding>\n"
+            + "</fx:root>\n";
+
+    private static Image userImage;
+    private static Image auroraImage;
+
+    public static void main(String[] args) throws InterruptedException {
+        CountDownLatch isStarted = new CountDownLatch(1);
+        Platform.startup(isStarted::countDown);
+        isStarted.await();
+
+        userImage = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/DaUser.png"));
+        auroraImage = new Image(DialogBoxBenchmark.class.getResourceAsStream("/images/DaDuke.png"));
+
+        System.out.printf("%d messages added to a laid out container, best of %d rounds%n", MESSAGE_COUNT, ROUNDS);
+        System.out.printf("%-20s %16s%n", "dialog box", "messages/s");
+        measure("FXML per message", DialogBoxBenchmark::loadFromFxml);
+        measure("built in code", i -> i % 2 == 0
+                ? DialogBox.getUserDialog(generateText(i), userImage)
+                : DialogBox.getAuroraDialog(generateText(i), auroraImage));
+
+        DialogBox reusedDialog = DialogBox.getEmptyDialog();
+        measure("reused cell", i -> {
+            reusedDialog.setMessage(generateText(i), i % 2 == 0 ? userImage : auroraImage, i % 2 == 0);
+            return reusedDialog;
+        });
+
+        Platform.exit();
+    }
+
+    /**
+     * Times adding dialog boxes to a container and laying it out, on the JavaFX application thread.
+     *
+     * @param name the name of the way dialog boxes are made.
+     * @param dialogFactory makes the dialog box of the message with an index.
+     */
+    private static void measure(String name, IntFunction<Node> dialogFactory) throws InterruptedException {
+        CountDownLatch isDone = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                VBox dialogContainer = new VBox();
+                long start = System.nanoTime();
+                for (int i = 0; i < MESSAGE_COUNT; i++) {
+                    Node dialog = dialogFactory.apply(i);
+                    if (dialog.getParent() == null) {
+                        dialogContainer.getChildren().add(dialog);
+                    }
+                }
+                dialogContainer.applyCss();
+                dialogContainer.layout();
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("%-20s %16.0f%n", name, MESSAGE_COUNT * 1e9 / best);
+            isDone.countDown();
+        });
+
+        isDone.await();
+    }
+
+    /**
+     * Loads a dialog box from FXML and flips Aurora's through a temporary list, as Aurora used to.
+     */
+    private static Node loadFromFxml(int i) {
+        HBox dialog = new HBox();
+        FXMLLoader fxmlLoader = new FXMLLoader();
+        fxmlLoader.setRoot(dialog);
+        try {
+            fxmlLoader.load(new ByteArrayInputStream(DIALOG_BOX_FXML.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ((Label) fxmlLoader.getNamespace().get("dialog")).setText(generateText(i));
+        ((ImageView) fxmlLoader.getNamespace().get("displayPicture"))
+                .setImage(i % 2 == 0 ? userImage : auroraImage);
+
+        if (i % 2 != 0) {
+            ObservableList<Node> tmp = FXCollections.observableArrayList(dialog.getChildren());
+            Collections.reverse(tmp);
+            dialog.getChildren().setAll(tmp);
+            dialog.setAlignment(Pos.TOP_LEFT);
+        }
+        return dialog;
+    }
+
+    /**
+     * Generates a message of one to several lines, like a command and the listing it prints.
+     */
+    private static String generateText(int i) {
+        StringBuilder text = new StringBuilder("message " + i);
+        for (int line = 0; line < i % 5; line++) {
+            text.append('\n').append(line + 1).append(". #").append(i).append(" [T][ ] task number ").append(i);
+        }
+        return text.toString();
+    }
+}
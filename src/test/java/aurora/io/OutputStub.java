@@ -0,0 +1,30 @@
+package aurora.io;
+
+/**
+ * Represents a stubbed Output class for testing purposes.
+ * Only the singleton is ever printed to, and it may be any instance, so the last message is kept statically.
+ */
+public class OutputStub implements Output {
+
+    private static volatile String lastMsg = null;
+
+    /**
+     * Gets the last message printed through any OutputStub.
+     *
+     * @return the last message, or null if none was printed.
+     */
+    public static String getLastMsg() {
+        return lastMsg;
+    }
+
+    @Override
+    public void printMsg(String msg) {
+        lastMsg = msg;
+    }
+
+    @Override
+    public void close() {
+        return;
+    }
+
+}
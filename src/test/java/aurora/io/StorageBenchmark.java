@@ -0,0 +1,87 @@
+package aurora.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import aurora.exception.AuroraException;
+import aurora.task.Task;
+import aurora.task.TaskFixtures;
+import aurora.util.Parser;
+
+/**
+ * Compares load and save times of the legacy text task list file against the binary one.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.io.StorageBenchmark".
+ */
+public class StorageBenchmark {
+
+    private static final int TASK_COUNT = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws AuroraException, IOException {
+        Path dataDirectory = Files.createTempDirectory("aurora-storage-benchmark");
+        List<Task> tasks = TaskFixtures.generateTasks(TASK_COUNT);
+
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        Path textFile = dataDirectory.resolve("taskList.txt");
+        Parser parser = Parser.of();
+
+        System.out.printf("%d tasks, best of %d rounds%n", TASK_COUNT, ROUNDS);
+
+        long textSave = Long.MAX_VALUE;
+        long textLoad = Long.MAX_VALUE;
+        long binarySave = Long.MAX_VALUE;
+        long binaryLoad = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<String> lines = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                lines.add(task.toFileFormat());
+            }
+            Files.write(textFile, lines);
+            textSave = Math.min(textSave, System.nanoTime() - start);
+
+            List<Task> loaded = new ArrayList<>(tasks.size());
+            start = System.nanoTime();
+            storage.streamLegacyTaskListData(line -> loaded.add(parser.parseTaskRecord(line)));
+            textLoad = Math.min(textLoad, System.nanoTime() - start);
+            checkCount(loaded);
+
+            start = System.nanoTime();
+            storage.overwriteTaskListFile(tasks, tasks.size() + 1);
+            binarySave = Math.min(binarySave, System.nanoTime() - start);
+
+            loaded.clear();
+            start = System.nanoTime();
+            storage.streamTaskListData(loaded::add);
+            binaryLoad = Math.min(binaryLoad, System.nanoTime() - start);
+            checkCount(loaded);
+        }
+
+        System.out.printf("text:   save %6d ms, load %6d ms, %,d bytes%n", textSave / 1_000_000,
+                textLoad / 1_000_000, Files.size(textFile));
+        System.out.printf("binary: save %6d ms, load %6d ms, %,d bytes%n", binarySave / 1_000_000,
+                binaryLoad / 1_000_000, Files.size(dataDirectory.resolve("taskList.bin")));
+
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Guards against a loader silently dropping tasks.
+     *
+     * @param loaded the loaded tasks.
+     */
+    private static void checkCount(List<Task> loaded) {
+        if (loaded.size() != TASK_COUNT) {
+            throw new IllegalStateException("Expected " + TASK_COUNT + " tasks but loaded " + loaded.size());
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package aurora.io;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import aurora.exception.AuroraException;
+import aurora.task.Task;
 
 /**
  * Represents a stubbed storage class for testing purposes.
@@ -23,17 +25,42 @@ public class StorageStub extends Storage {
     }
 
     @Override
-    public List<String> loadTaskListData() throws AuroraException {
+    public long streamTaskListData(Consumer<Task> taskConsumer) throws AuroraException {
+        return Task.NO_ID;
+    }
+
+    @Override
+    public void streamLegacyTaskListData(Consumer<String> lineConsumer) throws AuroraException {
+        return;
+    }
+
+    @Override
+    public List<String> loadJournalData() throws AuroraException {
         return null;
     }
 
     @Override
-    public void overwriteTaskListFile(List<String> lines) throws AuroraException {
+    public void overwriteTaskListFile(List<Task> tasks, long nextTaskId) throws AuroraException {
+        return;
+    }
+
+    @Override
+    public void appendTaskListFile(List<Task> tasks) throws AuroraException {
         return;
     }
 
     @Override
-    public void appendTaskListFile(List<String> lines) throws AuroraException {
+    public void appendJournalRecord(String operation, String argument) throws AuroraException {
         return;
     }
+
+    @Override
+    public void appendJournalRecords(String operation, List<String> arguments) throws AuroraException {
+        return;
+    }
+
+    @Override
+    public boolean needsCompaction() {
+        return false;
+    }
 }
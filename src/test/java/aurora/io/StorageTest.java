@@ -0,0 +1,201 @@
+package aurora.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import aurora.exception.AuroraException;
+import aurora.task.Deadline;
+import aurora.task.DoWithinPeriod;
+import aurora.task.Event;
+import aurora.task.Task;
+import aurora.task.TaskList;
+import aurora.task.ToDo;
+import aurora.util.Parser;
+
+public class StorageTest {
+
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    public void overwriteTaskListFile_allTaskTypes_streamedBackIdentically() throws AuroraException {
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("borrow book"));
+        tasks.add(new Deadline("return book | caf\u00e9", LocalDateTime.of(2019, 12, 2, 18, 0)));
+        tasks.add(new Event("project meeting", LocalDateTime.of(2019, 12, 2, 18, 0),
+                LocalDateTime.of(2019, 12, 4, 8, 0)));
+        tasks.add(new DoWithinPeriod("slides", LocalDateTime.of(1969, 7, 20, 20, 17),
+                LocalDateTime.of(2100, 1, 1, 0, 0)));
+        tasks.get(1).markAsDone();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(i * 3 + 1);
+        }
+        storage.overwriteTaskListFile(tasks, 42);
+        storage.flush();
+
+        List<Task> loaded = new ArrayList<>();
+        long nextTaskId = storage.streamTaskListData(loaded::add);
+
+        assertEquals(toStrings(tasks), toStrings(loaded));
+        assertEquals(42, nextTaskId);
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(i * 3 + 1, loaded.get(i).getId());
+        }
+    }
+
+    @Test
+    public void streamTaskListData_versionWithoutIds_loadedWithoutIds() throws AuroraException, IOException {
+        ByteBuffer file = ByteBuffer.allocate(64);
+        file.putInt(BinaryTaskFormat.MAGIC).putShort(BinaryTaskFormat.VERSION_WITHOUT_IDS).putLong(0);
+        file.put((byte) 'T').put((byte) 1).putInt(4).put("read".getBytes(StandardCharsets.UTF_8));
+        Files.write(dataDirectory.resolve("taskList.bin"), Arrays.copyOf(file.array(), file.position()));
+
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        TaskList taskList = new TaskList();
+        taskList.reserveIds(storage.streamTaskListData(taskList::addToList));
+
+        assertTrue(storage.isTaskListFileOutdated());
+        assertEquals("[T][X] read", taskList.getTask(1).toString());
+        assertEquals(1, taskList.getTask(1).getId());
+    }
+
+    @Test
+    public void replayJournal_recordsById_appliedToSameTasks() throws AuroraException, IOException {
+        Files.write(dataDirectory.resolve("taskList.journal"), List.of(
+                "1 | ADD | #5 | T | 0 | borrow book",
+                "2 | ADD | #9 | T | 0 | read book",
+                "3 | ADD | #12 | T | 0 | return book",
+                "4 | DELETE | #5",
+                "5 | MARK | #12",
+                "6 | ADD | #12 | T | 0 | duplicate"), StandardOpenOption.CREATE);
+
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        TaskList taskList = new TaskList();
+        taskList.reserveIds(storage.streamTaskListData(taskList::addToList));
+        Parser.of().replayJournal(storage.loadJournalData(), taskList);
+
+        assertEquals(List.of("T | 0 | read book", "T | 1 | return book"), taskList.toFileFormat());
+        assertEquals(2, taskList.getIndexById(12));
+        assertEquals(13, taskList.getNextId());
+    }
+
+    @Test
+    public void streamTaskListData_tornLastRecord_ignored() throws AuroraException, IOException {
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        storage.appendTaskListFile(List.of(new ToDo("borrow book"), new ToDo("read book")));
+        storage.flush();
+
+        Path taskListFile = dataDirectory.resolve("taskList.bin");
+        byte[] bytes = Files.readAllBytes(taskListFile);
+        Files.write(taskListFile, Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<Task> loaded = new ArrayList<>();
+        storage.streamTaskListData(loaded::add);
+
+        assertEquals(List.of("[T][ ] borrow book"), toStrings(loaded));
+    }
+
+    @Test
+    public void migrateLegacyTaskListFile_textFileWithJournal_upgradedToBinary() throws AuroraException, IOException {
+        Files.write(dataDirectory.resolve("taskList.txt"), List.of(
+                "# 1",
+                "T | 1 | borrow book",
+                "D | 0 | return book | 2/12/2019 1800"));
+        Files.write(dataDirectory.resolve("taskList.journal"), List.of(
+                "1 | ADD | T | 0 | already folded",
+                "2 | MARK | 2"), StandardOpenOption.CREATE);
+
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        assertTrue(storage.hasLegacyTaskListFile());
+
+        TaskList taskList = new TaskList();
+        storage.streamLegacyTaskListData(line -> taskList.addToList(Parser.of().parseTaskRecord(line)));
+        Parser.of().replayJournal(storage.loadJournalData(), taskList);
+        storage.migrateLegacyTaskListFile(taskList.getTasks(), taskList.getNextId());
+
+        Storage reopened = new Storage(dataDirectory);
+        reopened.generateTaskListFile();
+        assertFalse(reopened.hasLegacyTaskListFile());
+        assertTrue(Files.exists(dataDirectory.resolve("taskList.txt.bak")));
+
+        List<Task> loaded = new ArrayList<>();
+        reopened.streamTaskListData(loaded::add);
+        assertEquals(List.of("[T][X] borrow book", "[D][X] return book (by: Dec 2 2019 6:00pm)"),
+                toStrings(loaded));
+        assertTrue(reopened.loadJournalData().isEmpty());
+    }
+
+    @Test
+    public void appendJournalRecord_osBuffered_writtenInOrderOnFlush() throws AuroraException, IOException {
+        Storage storage = new Storage(dataDirectory);
+        storage.setDurability(Durability.OS_BUFFERED, 0);
+        storage.generateTaskListFile();
+        storage.streamTaskListData(task -> { });
+        storage.loadJournalData();
+
+        for (int i = 1; i <= 100; i++) {
+            storage.appendJournalRecord(Storage.JOURNAL_MARK, String.valueOf(i));
+        }
+        storage.flush();
+
+        List<String> records = storage.loadJournalData();
+        assertEquals(100, records.size());
+        assertEquals("MARK | 1", records.get(0));
+        assertEquals("MARK | 100", records.get(99));
+    }
+
+    @Test
+    public void compactJournal_thenOverwrite_newerSnapshotKept() throws AuroraException, IOException {
+        Storage storage = new Storage(dataDirectory);
+        storage.generateTaskListFile();
+        storage.streamTaskListData(task -> { });
+        storage.loadJournalData();
+
+        ToDo first = new ToDo("first");
+        first.setId(1);
+        ToDo second = new ToDo("second");
+        second.setId(2);
+        storage.appendJournalRecord(Storage.JOURNAL_ADD, "#1 | " + first.toFileFormat());
+
+        for (int i = 0; i < 20; i++) {
+            storage.compactJournal(List.of(first), 2);
+            storage.overwriteTaskListFile(List.of(first, second), 3);
+        }
+        storage.flush();
+
+        List<Task> loaded = new ArrayList<>();
+        storage.streamTaskListData(loaded::add);
+        assertEquals(List.of("[T][ ] first", "[T][ ] second"), toStrings(loaded));
+        assertTrue(storage.loadJournalData().isEmpty());
+    }
+
+    private List<String> toStrings(List<Task> tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,42 @@
+package aurora.io;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import aurora.exception.AuroraException;
+
+public class WriteBehindWriterTest {
+
+    @TempDir
+    Path dataDirectory;
+
+    @Test
+    public void append_everyOp_failureReportedOnlyToItsCaller() throws AuroraException {
+        // A directory cannot be opened as the journal, so every append fails
+        WriteBehindWriter writer = new WriteBehindWriter(dataDirectory, Durability.EVERY_OP, 0);
+
+        assertThrows(AuroraException.class, () -> writer.append(record()));
+        writer.flush();
+    }
+
+    @Test
+    public void append_osBuffered_failureReportedOnceOnFlush() throws AuroraException {
+        // The writer thread may fail the append before it returns, which must not change what is reported
+        for (int i = 0; i < 200; i++) {
+            WriteBehindWriter writer = new WriteBehindWriter(dataDirectory, Durability.OS_BUFFERED, 0);
+
+            writer.append(record());
+            assertThrows(AuroraException.class, writer::flush);
+            writer.flush();
+        }
+    }
+
+    private static byte[] record() {
+        return ("1 | MARK | #1" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    }
+}
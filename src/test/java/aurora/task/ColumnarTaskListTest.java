@@ -0,0 +1,145 @@
+package aurora.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+
+public class ColumnarTaskListTest {
+
+    private static final int HEAP_TASK_COUNT = 200_000;
+
+    @Test
+    public void randomOperations_matchTaskList() throws AuroraException {
+        TaskList expected = new TaskList();
+        TaskList actual = new ColumnarTaskList();
+        List<Task> tasks = TaskFixtures.generateTasks(5000);
+        tasks.add(new ToDo("caf\u00e9 \u00fcber"));
+        Random random = new Random(5);
+
+        for (Task task : tasks) {
+            expected.addToList(task);
+            actual.addToList(task);
+
+            int index = random.nextInt(expected.getSize()) + 1;
+            long id = expected.getTask(index).getId();
+            switch (random.nextInt(6)) {
+            case 0:
+                assertEquals(expected.deleteFromList(index).toString(), actual.deleteFromList(index).toString());
+                break;
+            case 1:
+                assertEquals(expected.markTaskDone(index).toString(), actual.markTaskDone(index).toString());
+                break;
+            case 2:
+                assertEquals(expected.unmarkTaskDone(index).toString(), actual.unmarkTaskDone(index).toString());
+                break;
+            case 3:
+                assertEquals(expected.deleteFromListById(id).toString(), actual.deleteFromListById(id).toString());
+                break;
+            case 4:
+                assertEquals(expected.markTaskDoneById(id).toString(), actual.markTaskDoneById(id).toString());
+                assertEquals(index, actual.getIndexById(id));
+                break;
+            default:
+                assertEquals(expected.getTask(index).toString(), actual.getTask(index).toString());
+                assertEquals(id, actual.getTask(index).getId());
+                break;
+            }
+        }
+
+        assertEquals(expected.toFileFormat(), actual.toFileFormat());
+        for (String keyword : new String[] {"number 12", "99", "\u00fcber", "zzz"}) {
+            assertEquals(expected.findMatchingKeyword(keyword).toFileFormat(),
+                    actual.findMatchingKeyword(keyword).toFileFormat(), keyword);
+        }
+
+        LocalDateTime from = LocalDateTime.of(2019, 12, 3, 0, 0);
+        assertEquals(expected.findWithinPeriod(from, from.plusHours(5)).toFileFormat(),
+                actual.findWithinPeriod(from, from.plusHours(5)).toFileFormat());
+    }
+
+    @Test
+    public void bulkOperations_matchTaskList() throws AuroraException {
+        TaskList expected = new TaskList();
+        TaskList actual = new ColumnarTaskList();
+        // Each list gets its own tasks, so that marking the tasks of one list does not mark those of another
+        for (TaskList taskList : new TaskList[] {expected, actual}) {
+            for (Task task : TaskFixtures.generateTasks(3000)) {
+                taskList.addToList(task);
+            }
+        }
+        Random random = new Random(11);
+
+        for (int round = 0; round < 20; round++) {
+            // Alternate between a few tasks and a large share of the list to cover both ways of deleting
+            int count = round % 2 == 0 ? 3 : expected.getSize() / 4;
+            int[] indices = random.ints(1, expected.getSize() + 1).distinct().limit(count).sorted().toArray();
+
+            switch (round % 3) {
+            case 0:
+                assertEquals(expected.deleteFromList(indices).toString(), actual.deleteFromList(indices).toString());
+                break;
+            case 1:
+                assertEquals(expected.markTasksDone(indices).toString(), actual.markTasksDone(indices).toString());
+                break;
+            default:
+                assertEquals(expected.unmarkTasksDone(indices).toString(), actual.unmarkTasksDone(indices).toString());
+                break;
+            }
+
+            assertEquals(expected.toFileFormat(), actual.toFileFormat());
+        }
+
+        int size = actual.getSize();
+        assertThrows(AuroraException.class, () -> actual.deleteFromList(new int[] {1, size + 1}));
+        assertEquals(size, actual.getSize());
+    }
+
+    @Test
+    public void heapPerTask_columnarUsesFarLess() {
+        long treeBytes = measureHeapPerTask(new TaskList());
+        long columnarBytes = measureHeapPerTask(new ColumnarTaskList());
+
+        assertTrue(columnarBytes * 4 < treeBytes,
+                "columnar " + columnarBytes + " bytes per task is not under a quarter of " + treeBytes);
+    }
+
+    /**
+     * Measures the heap retained per task by a list, from the used heap after garbage collection
+     * before and after filling it.
+     */
+    private static long measureHeapPerTask(TaskList taskList) {
+        long before = usedHeapAfterGc();
+
+        LocalDateTime base = LocalDateTime.of(2019, 12, 2, 18, 0);
+        for (int i = 0; i < HEAP_TASK_COUNT; i++) {
+            String description = "task number " + i + " with a moderately long description";
+            if (i % 2 == 0) {
+                taskList.addToList(new Deadline(description, base.plusMinutes(i)));
+            } else {
+                taskList.addToList(new Event(description, base.plusMinutes(i), base.plusMinutes(i + 60)));
+            }
+        }
+
+        long after = usedHeapAfterGc();
+        assertEquals(HEAP_TASK_COUNT, taskList.getSize());
+        return (after - before) / HEAP_TASK_COUNT;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
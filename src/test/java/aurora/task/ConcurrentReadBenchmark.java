@@ -0,0 +1,121 @@
+package aurora.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import aurora.exception.AuroraException;
+
+/**
+ * Measures how read throughput of the task list scales with the number of reader threads while a writer
+ * keeps marking and unmarking tasks, against the same reads and writes serialized by a single monitor.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.task.ConcurrentReadBenchmark".
+ */
+public class ConcurrentReadBenchmark {
+
+    private static final int TASK_COUNT = 100_000;
+    private static final int[] READER_COUNTS = {1, 2, 4, 8};
+    private static final long WRITE_INTERVAL_NANOS = 50_000;
+    private static final long WARMUP_MILLIS = 500;
+    private static final long MEASURE_MILLIS = 2_000;
+
+    public static void main(String[] args) throws AuroraException, InterruptedException {
+        TaskList taskList = new TaskList();
+        for (Task task : TaskFixtures.generateTasks(TASK_COUNT)) {
+            taskList.addToList(task);
+        }
+
+        System.out.printf("%d tasks, one writer every %d us, %d cores, reads of a random task per second%n",
+                TASK_COUNT, WRITE_INTERVAL_NANOS / 1000, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%8s %16s %16s %10s%n", "readers", "monitor", "stamped", "speedup");
+
+        for (int readerCount : READER_COUNTS) {
+            double monitorReads = measure(taskList, readerCount, true);
+            double stampedReads = measure(taskList, readerCount, false);
+            System.out.printf("%8d %16.0f %16.0f %9.1fx%n", readerCount, monitorReads, stampedReads,
+                    stampedReads / monitorReads);
+        }
+    }
+
+    /**
+     * Runs readers getting random tasks alongside a writer toggling random tasks, and counts the reads.
+     *
+     * @return the reads per second across all readers.
+     */
+    private static double measure(TaskList taskList, int readerCount, boolean isSerialized)
+            throws InterruptedException {
+        Object monitor = new Object();
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicBoolean isMeasuring = new AtomicBoolean(false);
+        LongAdder reads = new LongAdder();
+        int size = taskList.getSize();
+
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            try {
+                while (isRunning.get()) {
+                    int index = random.nextInt(size) + 1;
+                    if (isSerialized) {
+                        synchronized (monitor) {
+                            toggle(taskList, index);
+                        }
+                    } else {
+                        toggle(taskList, index);
+                    }
+                    LockSupport.parkNanos(WRITE_INTERVAL_NANOS);
+                }
+            } catch (AuroraException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        for (int r = 0; r < readerCount; r++) {
+            threads.add(new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (isRunning.get()) {
+                        int index = random.nextInt(size) + 1;
+                        if (isSerialized) {
+                            synchronized (monitor) {
+                                taskList.getTask(index);
+                            }
+                        } else {
+                            taskList.getTask(index);
+                        }
+                        if (isMeasuring.get()) {
+                            reads.increment();
+                        }
+                    }
+                } catch (AuroraException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        Thread.sleep(WARMUP_MILLIS);
+        isMeasuring.set(true);
+        long start = System.nanoTime();
+        Thread.sleep(MEASURE_MILLIS);
+        isMeasuring.set(false);
+        long elapsed = System.nanoTime() - start;
+        isRunning.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        return reads.sum() * 1e9 / elapsed;
+    }
+
+    private static void toggle(TaskList taskList, int index) throws AuroraException {
+        if (taskList.getTask(index).isDone()) {
+            taskList.unmarkTaskDone(index);
+        } else {
+            taskList.markTaskDone(index);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package aurora.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+
+public class EventConflictsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    public void findAll_randomEvents_matchBruteForce() throws AuroraException {
+        for (TaskList taskList : new TaskList[] {new TaskList(), new ColumnarTaskList()}) {
+            Random random = new Random(7);
+            for (int i = 0; i < 400; i++) {
+                int start = random.nextInt(5000);
+                int length = random.nextInt(10) == 0 ? 0 : random.nextInt(120);
+                if (random.nextInt(4) == 0) {
+                    taskList.addToList(new Deadline("deadline " + i, BASE.plusMinutes(start)));
+                } else {
+                    taskList.addToList(new Event("event " + i, BASE.plusMinutes(start),
+                            BASE.plusMinutes(start + length)));
+                }
+            }
+            taskList.markTasksDone(new int[] {3, 50, 51, 200});
+
+            List<Event> events = new ArrayList<>();
+            for (Task task : taskList.getTasks()) {
+                if (task instanceof Event && !task.isDone()) {
+                    events.add((Event) task);
+                }
+            }
+
+            Set<String> expected = new TreeSet<>();
+            for (int i = 0; i < events.size(); i++) {
+                for (int j = i + 1; j < events.size(); j++) {
+                    if (overlaps(events.get(i), events.get(j))) {
+                        expected.add(toPair(events.get(i).getId(), events.get(j).getId()));
+                    }
+                }
+            }
+
+            Set<String> actual = new TreeSet<>();
+            for (EventConflicts.Conflict conflict : EventConflicts.findAll(taskList)) {
+                actual.add(toPair(conflict.getFirst().getId(), conflict.getSecond().getId()));
+            }
+            assertEquals(expected, actual);
+
+            Event event = new Event("new", BASE.plusMinutes(1000), BASE.plusMinutes(1300));
+            long expectedCount = events.stream().filter(other -> overlaps(event, other)).count();
+            assertEquals(expectedCount, EventConflicts.findOverlapping(taskList, event).size());
+        }
+    }
+
+    private static boolean overlaps(Event first, Event second) {
+        return first.getStartDate().isBefore(second.getEndDate())
+                && second.getStartDate().isBefore(first.getEndDate());
+    }
+
+    private static String toPair(long firstId, long secondId) {
+        return Math.min(firstId, secondId) + "-" + Math.max(firstId, secondId);
+    }
+}
@@ -0,0 +1,53 @@
+package aurora.task;
+
+import java.util.List;
+
+
+/**
+ * Compares the indexed find against a full scan with {@link Task#hasKeyword(String)} on a 1M-task list.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.task.FindBenchmark".
+ */
+public class FindBenchmark {
+
+    private static final int TASK_COUNT = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final String[] KEYWORDS = {"number 123456 ", "99999", "456", "long desc", "zzz", "7"};
+
+    public static void main(String[] args) {
+        List<Task> tasks = TaskFixtures.generateTasks(TASK_COUNT);
+
+        long start = System.nanoTime();
+        TaskList taskList = new TaskList();
+        for (Task task : tasks) {
+            taskList.addToList(task);
+        }
+        System.out.printf("%d tasks indexed in %d ms%n", TASK_COUNT, (System.nanoTime() - start) / 1_000_000);
+        System.out.printf("%-16s %8s %10s %10s%n", "keyword", "matches", "scan ms", "index ms");
+
+        for (String keyword : KEYWORDS) {
+            long bestScan = Long.MAX_VALUE;
+            long bestIndex = Long.MAX_VALUE;
+            int scanMatches = 0;
+            int indexMatches = 0;
+
+            for (int round = 0; round < ROUNDS; round++) {
+                start = System.nanoTime();
+                scanMatches = 0;
+                for (Task task : tasks) {
+                    scanMatches += task.hasKeyword(keyword) ? 1 : 0;
+                }
+                bestScan = Math.min(bestScan, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                indexMatches = taskList.findMatchingKeyword(keyword).getSize();
+                bestIndex = Math.min(bestIndex, System.nanoTime() - start);
+            }
+
+            if (scanMatches != indexMatches) {
+                throw new IllegalStateException("Index found " + indexMatches + " but scan found " + scanMatches);
+            }
+            System.out.printf("%-16s %8d %10.2f %10.2f%n", "\"" + keyword + "\"", indexMatches, bestScan / 1e6,
+                    bestIndex / 1e6);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package aurora.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+
+public class HistoryTest {
+
+    @Test
+    public void undoRedo_restoresEveryState() throws AuroraException {
+        for (TaskList taskList : new TaskList[] {new TaskList(), new ColumnarTaskList()}) {
+            History history = taskList.getHistory();
+            List<List<String>> states = new ArrayList<>();
+            states.add(taskList.toFileFormat());
+            Random random = new Random(3);
+
+            while (states.size() <= 2 * History.DEFAULT_DEPTH) {
+                if (applyRandomChange(taskList, random)) {
+                    states.add(taskList.toFileFormat());
+                }
+            }
+
+            for (int i = states.size() - 2; i >= states.size() - 1 - History.DEFAULT_DEPTH; i--) {
+                history.undo(taskList);
+                assertEquals(states.get(i), taskList.toFileFormat());
+            }
+            assertThrows(AuroraException.class, () -> history.undo(taskList));
+
+            for (int i = states.size() - History.DEFAULT_DEPTH; i < states.size(); i++) {
+                history.redo(taskList);
+                assertEquals(states.get(i), taskList.toFileFormat());
+            }
+            assertThrows(AuroraException.class, () -> history.redo(taskList));
+
+            assertEquals(taskList.findMatchingKeyword("task 1").toFileFormat().size(),
+                    taskList.getTasks().stream().filter(task -> task.hasKeyword("task 1")).count());
+        }
+    }
+
+    @Test
+    public void undoDelete_afterCompaction_taskBackInIdOrder() throws AuroraException {
+        TaskList taskList = new ColumnarTaskList();
+        for (int i = 0; i < 3000; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+
+        int[] indices = new int[2500];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i + 1;
+        }
+        List<Task> deleted = taskList.deleteFromList(indices);
+        taskList.getHistory().record(History.Operation.DELETE, deleted);
+        taskList.deleteFromList(1);
+
+        taskList.getHistory().undo(taskList);
+        assertEquals(2999, taskList.getSize());
+        assertEquals("task 0", taskList.getTask(1).getDescription());
+        assertEquals("task 2501", taskList.getTask(2501).getDescription());
+        assertEquals(2501, taskList.getIndexById(2502));
+    }
+
+    private static boolean applyRandomChange(TaskList taskList, Random random) throws AuroraException {
+        History history = taskList.getHistory();
+        int size = taskList.getSize();
+
+        switch (size < 5 ? 0 : random.nextInt(4)) {
+        case 0:
+            ToDo toDo = new ToDo("task " + random.nextInt(50));
+            taskList.addToList(toDo);
+            history.record(History.Operation.ADD, List.of(toDo));
+            return true;
+        case 1:
+            int[] indices = random.ints(1, size + 1).distinct().limit(3).sorted().toArray();
+            history.record(History.Operation.DELETE, taskList.deleteFromList(indices));
+            return true;
+        case 2:
+            int index = random.nextInt(size) + 1;
+            if (taskList.getTask(index).isDone()) {
+                return false;
+            }
+            history.record(History.Operation.MARK, List.of(taskList.markTaskDone(index)));
+            return true;
+        default:
+            index = random.nextInt(size) + 1;
+            if (!taskList.getTask(index).isDone()) {
+                return false;
+            }
+            history.record(History.Operation.UNMARK, List.of(taskList.unmarkTaskDone(index)));
+            return true;
+        }
+    }
+}
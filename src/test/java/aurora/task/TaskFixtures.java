@@ -0,0 +1,51 @@
+package aurora.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the tasks shared by the task list tests and the benchmarks.
+ */
+public class TaskFixtures {
+
+    /**
+     * Generates an even mix of every task type with varying descriptions and dates.
+     *
+     * @param count the number of tasks to generate.
+     * @return the generated tasks.
+     */
+    public static List<Task> generateTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2019, 12, 2, 18, 0);
+
+        for (int i = 0; i < count; i++) {
+            String description = "task number " + i + " with a moderately long description";
+            LocalDateTime from = base.plusMinutes(i * 7L);
+            LocalDateTime to = from.plusHours(2);
+
+            Task task;
+            switch (i % 4) {
+            case 0:
+                task = new ToDo(description);
+                break;
+            case 1:
+                task = new Deadline(description, from);
+                break;
+            case 2:
+                task = new Event(description, from, to);
+                break;
+            default:
+                task = new DoWithinPeriod(description, from, to);
+                break;
+            }
+
+            if (i % 3 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+
+        return tasks;
+    }
+}
@@ -0,0 +1,95 @@
+package aurora.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import aurora.exception.AuroraException;
+
+/**
+ * Compares the tree-backed task list against the array list it replaced, at several list sizes.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.task.TaskListBenchmark".
+ */
+public class TaskListBenchmark {
+
+    private static final int[] TASK_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int OPERATIONS = 10_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws AuroraException {
+        System.out.printf("%d gets and %d deletes per run, best of %d rounds, times in ms (array / tree)%n",
+                OPERATIONS, OPERATIONS / 2, ROUNDS);
+        System.out.printf("%10s %20s %20s %20s%n", "tasks", "get random", "delete front", "delete random");
+
+        for (int taskCount : TASK_COUNTS) {
+            List<Task> tasks = TaskFixtures.generateTasks(taskCount);
+            long[] array = new long[3];
+            long[] tree = new long[3];
+            Arrays.fill(array, Long.MAX_VALUE);
+            Arrays.fill(tree, Long.MAX_VALUE);
+
+            for (int round = 0; round < ROUNDS; round++) {
+                ArrayList<Task> arrayList = new ArrayList<>(tasks);
+                TaskList taskList = new TaskList();
+                for (Task task : tasks) {
+                    taskList.addToList(task);
+                }
+
+                Random random = new Random(round);
+                long start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    arrayList.get(random.nextInt(arrayList.size()));
+                }
+                array[0] = Math.min(array[0], System.nanoTime() - start);
+
+                random = new Random(round);
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    taskList.getTask(random.nextInt(taskList.getSize()) + 1);
+                }
+                tree[0] = Math.min(tree[0], System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS / 2; i++) {
+                    arrayList.remove(0);
+                }
+                array[1] = Math.min(array[1], System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS / 2; i++) {
+                    taskList.deleteFromList(1);
+                }
+                tree[1] = Math.min(tree[1], System.nanoTime() - start);
+
+                random = new Random(round);
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS / 2; i++) {
+                    arrayList.remove(random.nextInt(arrayList.size()));
+                }
+                array[2] = Math.min(array[2], System.nanoTime() - start);
+
+                random = new Random(round);
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS / 2; i++) {
+                    taskList.deleteFromList(random.nextInt(taskList.getSize()) + 1);
+                }
+                tree[2] = Math.min(tree[2], System.nanoTime() - start);
+            }
+
+            System.out.printf("%10d %20s %20s %20s%n", taskCount, format(array[0], tree[0]),
+                    format(array[1], tree[1]), format(array[2], tree[2]));
+        }
+    }
+
+    /**
+     * Formats a pair of timings.
+     *
+     * @param arrayNanos the array list timing.
+     * @param treeNanos the task list timing.
+     * @return the timings in milliseconds.
+     */
+    private static String format(long arrayNanos, long treeNanos) {
+        return String.format("%.2f / %.2f", arrayNanos / 1e6, treeNanos / 1e6);
+    }
+}
@@ -0,0 +1,270 @@
+package aurora.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import aurora.exception.AuroraException;
+
+public class TaskListTest {
+
+    private static final int STRESS_WRITES_PER_WRITER = 20_000;
+    private static final int STRESS_WRITERS = 2;
+    private static final int STRESS_READERS = 4;
+
+    @Test
+    public void findMatchingKeyword_matchesContainsAfterDeletes() throws AuroraException {
+        TaskList taskList = new TaskList();
+        String[] descriptions = {"borrow book", "return books", "read a book.", "notebook shopping",
+            "cook dinner", "book  club meeting", "Bookkeeping"};
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        taskList.deleteFromList(3);
+
+        for (String keyword : new String[] {"book", "ook", "Book", "book club", "k  c", "z", "."}) {
+            assertEquals(scan(taskList, keyword), descriptions(taskList.findMatchingKeyword(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void taskIds_stableAcrossDeletes() throws AuroraException {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 10; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+
+        taskList.deleteFromList(2);
+        taskList.deleteFromListById(6);
+        taskList.markTaskDoneById(10);
+
+        assertEquals("task 9", taskList.getTaskById(10).getDescription());
+        assertEquals(8, taskList.getIndexById(10));
+        assertEquals(1, taskList.getIndexById(1));
+        assertEquals(9, taskList.getTask(7).getId());
+        assertThrows(AuroraException.class, () -> taskList.getTaskById(6));
+        assertThrows(AuroraException.class, () -> taskList.markTaskDoneById(11));
+
+        taskList.deleteFromListById(10);
+        taskList.addToList(new ToDo("task 10"));
+        assertEquals(11, taskList.getTask(taskList.getSize()).getId());
+    }
+
+    @Test
+    public void toString_pageSlices_matchFullListing() throws AuroraException {
+        for (TaskList taskList : new TaskList[] {new TaskList(), new ColumnarTaskList()}) {
+            for (int i = 0; i < 20; i++) {
+                taskList.addToList(new ToDo("task " + i));
+            }
+            taskList.deleteFromList(4);
+            taskList.deleteFromList(10);
+
+            String[] lines = taskList.toString().split("\n");
+            assertEquals(18, lines.length);
+            for (int fromIndex = 1; fromIndex <= 18; fromIndex++) {
+                int toIndex = Math.min(fromIndex + 5, 18);
+                String expected = String.join("\n", List.of(lines).subList(fromIndex - 1, toIndex));
+                assertEquals(expected, taskList.toString(fromIndex, 6));
+            }
+            assertEquals("", taskList.toString(19, 6));
+        }
+    }
+
+    @Test
+    public void findMatchingKeyword_randomTasksAcrossRebuilds_matchesContains() throws AuroraException {
+        TaskList taskList = new TaskList();
+        Random random = new Random(3);
+        String alphabet = "ab c";
+
+        for (int i = 0; i < 4000; i++) {
+            StringBuilder description = new StringBuilder();
+            for (int j = random.nextInt(12); j >= 0; j--) {
+                description.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            taskList.addToList(new ToDo(description.toString()));
+
+            if (i % 4 != 0 && taskList.getSize() > 1) {
+                taskList.deleteFromList(random.nextInt(taskList.getSize()) + 1);
+            }
+        }
+
+        for (String keyword : new String[] {"a", "ab", "abc", "b a", "aaaa", "c c", "cba"}) {
+            assertEquals(scan(taskList, keyword), descriptions(taskList.findMatchingKeyword(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void findWithinPeriod_overlappingRangesAndDeadlines_foundInStartOrder() throws AuroraException {
+        TaskList taskList = new TaskList();
+        LocalDateTime twoPm = LocalDateTime.of(2019, 12, 2, 14, 0);
+        taskList.addToList(new ToDo("borrow book"));
+        taskList.addToList(new Event("meeting", twoPm.plusHours(4), twoPm.plusDays(2)));
+        taskList.addToList(new Deadline("return book", twoPm.plusHours(3)));
+        taskList.addToList(new DoWithinPeriod("essay", twoPm.minusDays(1), twoPm));
+        taskList.addToList(new Deadline("too late", twoPm.plusHours(3).plusMinutes(1)));
+        taskList.addToList(new Deadline("deleted", twoPm.plusHours(1)));
+        taskList.deleteFromList(6);
+
+        List<String> found = descriptions(taskList.findWithinPeriod(twoPm, twoPm.plusHours(3)));
+
+        assertEquals(List.of("essay", "return book"), found);
+    }
+
+    @Test
+    public void bulkOperations_matchSingleOperations() throws AuroraException {
+        TaskList expected = new TaskList();
+        TaskList bulk = new TaskList();
+        // Each list gets its own tasks, so that marking the tasks of one list does not mark those of another
+        for (TaskList taskList : new TaskList[] {expected, bulk}) {
+            for (Task task : TaskFixtures.generateTasks(3000)) {
+                taskList.addToList(task);
+            }
+        }
+        Random random = new Random(11);
+
+        for (int round = 0; round < 20; round++) {
+            // Alternate between a few tasks and a large share of the list to cover both ways of deleting
+            int count = round % 2 == 0 ? 3 : expected.getSize() / 4;
+            int[] indices = random.ints(1, expected.getSize() + 1).distinct().limit(count).sorted().toArray();
+
+            switch (round % 3) {
+            case 0:
+                for (int i = indices.length - 1; i >= 0; i--) {
+                    expected.deleteFromList(indices[i]);
+                }
+                bulk.deleteFromList(indices);
+                break;
+            case 1:
+                for (int index : indices) {
+                    expected.markTaskDone(index);
+                }
+                bulk.markTasksDone(indices);
+                break;
+            default:
+                for (int index : indices) {
+                    expected.unmarkTaskDone(index);
+                }
+                bulk.unmarkTasksDone(indices);
+                break;
+            }
+
+            assertEquals(expected.toFileFormat(), bulk.toFileFormat());
+        }
+
+        assertEquals(expected.findMatchingKeyword("number 1").toFileFormat(),
+                bulk.findMatchingKeyword("number 1").toFileFormat());
+        int size = bulk.getSize();
+        assertThrows(AuroraException.class, () -> bulk.deleteFromList(new int[] {1, size + 1}));
+        assertEquals(size, bulk.getSize());
+    }
+
+    @Test
+    public void concurrentReadersAndWriters_readsAlwaysConsistent() throws InterruptedException {
+        stressTest(new TaskList());
+        stressTest(new ColumnarTaskList());
+    }
+
+    /**
+     * Runs writers adding, deleting and marking tasks against readers checking that every read sees a
+     * consistent list: the first task is never deleted and IDs are strictly ascending in every snapshot.
+     */
+    private static void stressTest(TaskList taskList) throws InterruptedException {
+        taskList.addToList(new ToDo("task first"));
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicInteger expectedSize = new AtomicInteger(1);
+        AtomicInteger readCount = new AtomicInteger();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < STRESS_WRITERS; w++) {
+            Random random = new Random(w);
+            writers.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < STRESS_WRITES_PER_WRITER; i++) {
+                        int size = taskList.getSize();
+                        if (random.nextInt(3) > 0 || size < 2) {
+                            taskList.addToList(new ToDo("task " + i));
+                            expectedSize.incrementAndGet();
+                        } else if (random.nextBoolean()) {
+                            // Another writer may have deleted tasks since the size was read
+                            taskList.deleteFromList(Math.min(random.nextInt(size - 1) + 2, taskList.getSize()));
+                            expectedSize.decrementAndGet();
+                        } else {
+                            taskList.markTaskDoneById(taskList.getTask(1).getId());
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < STRESS_READERS; r++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (isWriting.get()) {
+                        assertEquals("task first", taskList.getTask(1).getDescription());
+                        assertAscendingIds(taskList.getTasks());
+                        assertAscendingIds(taskList.findMatchingKeyword("task").getTasks());
+                        String[] lines = taskList.toString().split("\n");
+                        assertTrue(lines[lines.length - 1].startsWith(lines.length + ". #"));
+                        readCount.incrementAndGet();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+
+        readers.forEach(Thread::start);
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(failures.isEmpty(), "first failure: " + failures.peek());
+        assertTrue(readCount.get() > 0);
+        assertEquals(expectedSize.get(), taskList.getSize());
+        assertAscendingIds(taskList.getTasks());
+    }
+
+    private static void assertAscendingIds(List<Task> tasks) {
+        for (int i = 1; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i - 1).getId() < tasks.get(i).getId(), "IDs out of order at " + i);
+        }
+    }
+
+    private static List<String> scan(TaskList taskList, String keyword) {
+        List<String> matches = new ArrayList<>();
+        for (Task task : taskList.getTasks()) {
+            if (task.hasKeyword(keyword)) {
+                matches.add(task.getDescription());
+            }
+        }
+        return matches;
+    }
+
+    private static List<String> descriptions(TaskList taskList) {
+        List<String> descriptions = new ArrayList<>();
+        for (Task task : taskList.getTasks()) {
+            descriptions.add(task.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,51 @@
+package aurora.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    @Test
+    public void findOverlapping_randomIntervals_matchBruteForce() {
+        IntervalTree<long[]> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 5000; i++) {
+            if (intervals.isEmpty() || random.nextInt(3) != 0) {
+                long start = random.nextInt(1000);
+                long[] interval = {start, start + random.nextInt(50), i};
+                tree.add(interval[0], interval[1], interval[2], interval);
+                intervals.add(interval);
+            } else {
+                long[] interval = intervals.remove(random.nextInt(intervals.size()));
+                tree.remove(interval[0], interval[2]);
+            }
+        }
+        assertEquals(intervals.size(), tree.size());
+
+        intervals.sort(Comparator.<long[]>comparingLong(interval -> interval[0])
+                .thenComparingLong(interval -> interval[2]));
+        for (int query = 0; query < 200; query++) {
+            long from = random.nextInt(1100) - 50;
+            long to = from + random.nextInt(30);
+
+            List<long[]> expected = new ArrayList<>();
+            for (long[] interval : intervals) {
+                if (interval[0] <= to && interval[1] >= from) {
+                    expected.add(interval);
+                }
+            }
+            List<long[]> actual = new ArrayList<>();
+            tree.findOverlapping(from, to, actual);
+
+            assertEquals(expected, actual);
+        }
+    }
+}
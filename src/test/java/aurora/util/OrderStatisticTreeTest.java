@@ -0,0 +1,68 @@
+package aurora.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                tree.add(i);
+                expected.add(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                tree.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), tree.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), tree.get(index));
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+
+        assertEquals(expected, tree.toList());
+    }
+
+    @Test
+    public void iterator_fromEveryIndex_matchesSubList() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tree.add(i);
+            expected.add(i);
+        }
+        tree.remove(17);
+        expected.remove(17);
+
+        for (int fromIndex = 0; fromIndex <= expected.size(); fromIndex++) {
+            List<Integer> actual = new ArrayList<>();
+            tree.iterator(fromIndex).forEachRemaining(actual::add);
+            assertEquals(expected.subList(fromIndex, expected.size()), actual);
+        }
+    }
+
+    @Test
+    public void get_outOfBounds_exceptionThrown() {
+        OrderStatisticTree<String> tree = new OrderStatisticTree<>();
+        tree.add("only");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.remove(-1));
+    }
+}
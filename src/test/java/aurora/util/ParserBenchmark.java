@@ -0,0 +1,79 @@
+package aurora.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import aurora.task.Task;
+import aurora.task.TaskFixtures;
+
+/**
+ * Measures how many task list file lines the parser decodes per second, and how quickly malformed dates
+ * are rejected compared to catching the formatter's exception.
+ * Run with "gradlew benchmark -Pbenchmark=aurora.util.ParserBenchmark".
+ */
+public class ParserBenchmark {
+
+    private static final int LINE_COUNT = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        List<String> lines = new ArrayList<>(LINE_COUNT);
+        for (Task task : TaskFixtures.generateTasks(LINE_COUNT)) {
+            lines.add(task.toFileFormat());
+        }
+
+        Parser parser = Parser.of();
+        long best = Long.MAX_VALUE;
+        int checksum = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String line : lines) {
+                checksum += parser.parseTaskRecord(line).isDone() ? 1 : 0;
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        System.out.printf("%d lines, best of %d rounds: %d ms, %,.0f lines/s (checksum %d)%n", LINE_COUNT,
+                ROUNDS, best / 1_000_000, LINE_COUNT / (best / 1e9), checksum);
+
+        benchmarkMalformedDates(parser);
+    }
+
+    /**
+     * Compares rejecting malformed dates by catching exceptions against the parser's sentinel.
+     *
+     * @param parser the parser.
+     */
+    private static void benchmarkMalformedDates(Parser parser) {
+        String[] inputs = {"32/1/2019 1200", "1/1/2019 2401", "2-12-2019 1800", "tomorrow", "1/1/19 1200"};
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/M/yyyy HHmm");
+        long bestException = Long.MAX_VALUE;
+        long bestSentinel = Long.MAX_VALUE;
+        int rejected = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LINE_COUNT; i++) {
+                try {
+                    LocalDateTime.parse(inputs[i % inputs.length], formatter);
+                } catch (DateTimeParseException e) {
+                    rejected++;
+                }
+            }
+            bestException = Math.min(bestException, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < LINE_COUNT; i++) {
+                rejected += parser.parseDateTime(inputs[i % inputs.length]) == null ? 1 : 0;
+            }
+            bestSentinel = Math.min(bestSentinel, System.nanoTime() - start);
+        }
+
+        System.out.printf("%d malformed dates: exception %d ms, sentinel %d ms (rejected %d)%n", LINE_COUNT,
+                bestException / 1_000_000, bestSentinel / 1_000_000, rejected);
+    }
+}
@@ -1,11 +1,15 @@
 package aurora.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import aurora.command.AddDeadlineCommand;
 import aurora.command.AddEventCommand;
 import aurora.command.AddToDoCommand;
+import aurora.command.AgendaCommand;
 import aurora.command.ByeCommand;
 import aurora.command.Command;
 import aurora.command.DeleteCommand;
@@ -21,6 +26,8 @@ import aurora.command.ListCommand;
 import aurora.command.MarkCommand;
 import aurora.command.UnmarkCommand;
 import aurora.exception.AuroraException;
+import aurora.task.DoWithinPeriod;
+import aurora.task.TaskList;
 
 public class ParserTest {
 
@@ -67,6 +74,21 @@ public class ParserTest {
         assertInstanceOf(AddToDoCommand.class, command);
     }
 
+    @Test
+    public void parseCommand_createAgendaCommand() throws AuroraException {
+        assertInstanceOf(AgendaCommand.class, parser.parseCommand("agenda"));
+        assertInstanceOf(AgendaCommand.class, parser.parseCommand("agenda week"));
+        assertInstanceOf(AgendaCommand.class, parser.parseCommand("agenda 2/12/2019"));
+        assertThrows(AuroraException.class, () -> parser.parseCommand("agenda tomorrow"));
+    }
+
+    @Test
+    public void parseDate_validAndInvalidDates() {
+        assertEquals(LocalDate.of(2019, 12, 2), parser.parseDate("2/12/2019"));
+        assertNull(parser.parseDate("2/13/2019"));
+        assertNull(parser.parseDate("2/12/2019 1800"));
+    }
+
     @Test
     public void parseCommand_createDeadlineCommand() throws AuroraException {
         Command command = parser.parseCommand("deadline return book /by 2/12/2019 1800");
@@ -129,5 +151,100 @@ public class ParserTest {
         // Somewhat trivial
         assertNull(parser.parseDateTime(""));
     }
-}
 
+    @Test
+    public void parseDateTime_smartResolution_matchesFormatter() {
+        // Days past the end of a short month are clamped, as the formatter's smart resolution does
+        assertEquals(LocalDateTime.of(2019, 4, 30, 12, 0), parser.parseDateTime("31/4/2019 1200"));
+        assertEquals(LocalDateTime.of(2019, 2, 28, 0, 0), parser.parseDateTime("30/2/2019 0000"));
+        assertEquals(LocalDateTime.of(2020, 2, 29, 0, 0), parser.parseDateTime("29/2/2020 0000"));
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), parser.parseDateTime("31/12/2019 2400"));
+        assertNull(parser.parseDateTime("32/1/2019 1200"));
+        assertNull(parser.parseDateTime("1/1/2019 2401"));
+        assertNull(parser.parseDateTime("1/1/2019 1260"));
+        assertNull(parser.parseDateTime("1/1/19 1200"));
+    }
+
+    @Test
+    public void parseDateTime_range_parsedInPlace() {
+        assertEquals(LocalDateTime.of(2019, 12, 2, 18, 0), parser.parseDateTime("by 2/12/2019 1800!", 3, 17));
+    }
+
+    @Test
+    public void canParseInt_matchesParseInt() {
+        assertTrue(parser.canParseInt("12"));
+        assertTrue(parser.canParseInt("-2147483648"));
+        assertFalse(parser.canParseInt("2147483648"));
+        assertFalse(parser.canParseInt("-"));
+        assertFalse(parser.canParseInt("1a"));
+        assertFalse(parser.canParseInt(""));
+    }
+
+    @Test
+    public void replayJournal_mixedRecords_appliedInOrder() throws AuroraException {
+        TaskList taskList = new TaskList();
+        List<String> records = List.of(
+                "ADD | T | 0 | borrow book",
+                "ADD | D | 0 | return book | 2/12/2019 1800",
+                "ADD | T | 0 | read book",
+                "DELETE | 1",
+                "MARK | 2",
+                "UNMARK | 2",
+                "MARK | 1");
+        parser.replayJournal(records, taskList);
+
+        assertEquals(2, taskList.getSize());
+        assertEquals("[D][X] return book (by: Dec 2 2019 6:00pm)", taskList.getTask(1).toString());
+        assertEquals("[T][ ] read book", taskList.getTask(2).toString());
+    }
+
+    @Test
+    public void replayJournal_restoreRecord_taskBackInIdOrder() throws AuroraException {
+        TaskList taskList = new TaskList();
+        List<String> records = List.of(
+                "ADD | #1 | T | 0 | borrow book",
+                "ADD | #2 | T | 0 | return book",
+                "ADD | #3 | T | 0 | read book",
+                "DELETE | #2",
+                "RESTORE | #2 | T | 1 | return book",
+                "RESTORE | #2 | T | 1 | return book");
+        parser.replayJournal(records, taskList);
+
+        assertEquals(3, taskList.getSize());
+        assertEquals("[T][X] return book", taskList.getTask(2).toString());
+        assertEquals(2, taskList.getIndexById(2));
+        assertEquals(4, taskList.getNextId());
+    }
+
+    @Test
+    public void replayJournal_tornRecords_skipped() throws AuroraException {
+        TaskList taskList = new TaskList();
+        List<String> records = List.of(
+                "ADD | T | 0 | borrow book",
+                "DELETE | 5",
+                "MARK");
+        parser.replayJournal(records, taskList);
+
+        assertEquals(1, taskList.getSize());
+        assertEquals("[T][ ] borrow book", taskList.getTask(1).toString());
+    }
+
+    @Test
+    public void parseTaskRecord_everyTaskType() {
+        assertEquals("[T][X] borrow book", parser.parseTaskRecord("T | 1 | borrow book").toString());
+        assertEquals("[D][ ] return book (by: Dec 2 2019 6:00pm)",
+                parser.parseTaskRecord("D | 0 | return book | 2/12/2019 1800").toString());
+        assertEquals("[E][X] meeting (from: Dec 2 2019 6:00pm to: Dec 2 2019 8:00pm)",
+                parser.parseTaskRecord("E | 1 | meeting | 2/12/2019 1800 | 2/12/2019 2000").toString());
+        assertInstanceOf(DoWithinPeriod.class,
+                parser.parseTaskRecord("P | 0 | essay | 2/12/2019 1800 | 9/12/2019 1800"));
+    }
+
+    @Test
+    public void parseTaskRecord_notATaskRecord_null() {
+        assertNull(parser.parseTaskRecord("# 17"));
+        assertNull(parser.parseTaskRecord("X | 0 | unknown"));
+        assertNull(parser.parseTaskRecord("TT | 0 | not a todo"));
+        assertNull(parser.parseTaskRecord("D | 0 | missing date"));
+    }
+}
@@ -0,0 +1,69 @@
+package aurora.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void advance_randomTimers_matchBruteForce() {
+        TimingWheel<Long> wheel = new TimingWheel<>(64, 0);
+        Map<Long, Long> ticksByKey = new HashMap<>();
+        Random random = new Random(5);
+        long tick = 0;
+
+        for (int step = 0; step < 20000; step++) {
+            int choice = random.nextInt(10);
+            long key = random.nextInt(500);
+            if (choice < 5) {
+                long dueTick = tick + random.nextInt(300) - 20;
+                wheel.schedule(key, dueTick, key);
+                ticksByKey.put(key, Math.max(dueTick, tick + 1));
+            } else if (choice < 7) {
+                assertEquals(ticksByKey.remove(key) != null, wheel.cancel(key));
+            } else {
+                // Mostly single ticks, sometimes more than a whole rotation at once
+                tick += random.nextInt(20) == 0 ? random.nextInt(200) : 1;
+
+                List<Long> expired = new ArrayList<>();
+                wheel.advance(tick, expired);
+                List<Long> expected = new ArrayList<>();
+                for (Map.Entry<Long, Long> entry : ticksByKey.entrySet()) {
+                    if (entry.getValue() <= tick) {
+                        expected.add(entry.getKey());
+                    }
+                }
+                expected.forEach(ticksByKey::remove);
+
+                expired.sort(null);
+                expected.sort(null);
+                assertEquals(expected, expired);
+            }
+            assertEquals(ticksByKey.size(), wheel.size());
+        }
+    }
+
+    @Test
+    public void schedule_sameKey_replacesTimer() {
+        TimingWheel<String> wheel = new TimingWheel<>(8, 100);
+        wheel.schedule(1, 103, "first");
+        wheel.schedule(1, 120, "second");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(110, expired);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(120, expired);
+        assertEquals(List.of("second"), expired);
+        assertFalse(wheel.cancel(1));
+    }
+}
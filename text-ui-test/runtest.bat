@@ -3,11 +3,12 @@
 REM create bin directory if it doesn't exist
 if not exist ..\bin mkdir ..\bin
 
-REM delete output from previous run
+REM delete output and saved tasks from previous run
 if exist ACTUAL.TXT del ACTUAL.TXT
+if exist data rmdir /s /q data
 
-REM compile the code into the bin folder
-javac  -cp ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\aurora\*.java
+REM compile the console front end into the bin folder
+javac -sourcepath ..\src\main\java -Xlint:none -d ..\bin ..\src\main\java\aurora\AuroraConsole.java
 IF ERRORLEVEL 1 (
     echo ********** BUILD FAILURE **********
     exit /b 1
@@ -15,7 +16,8 @@ IF ERRORLEVEL 1 (
 REM no error here, errorlevel == 0
 
 REM run the program, feed commands from input.txt file and redirect the output to the ACTUAL.TXT
-java -classpath ..\bin aurora.Aurora < input.txt > ACTUAL.TXT
+REM dates are printed in the locale EXPECTED.TXT was written in
+java -Duser.language=en -Duser.country=SG -classpath ..\bin aurora.AuroraConsole < input.txt > ACTUAL.TXT
 
 REM compare the output to the expected output
 FC ACTUAL.TXT EXPECTED.TXT